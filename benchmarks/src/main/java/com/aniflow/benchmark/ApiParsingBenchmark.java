@@ -0,0 +1,74 @@
+package com.aniflow.benchmark;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.AnimeDetail;
+import com.aniflow.model.EpisodeStream;
+import com.aniflow.service.OtakudesuApiService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiParsingBenchmark {
+    private static final String DETAIL_SLUG = "frieren-beyond-journey-s-end-sub-indo";
+    private static final String EPISODE_SLUG = "frieren-beyond-journey-s-end-episode-12-sub-indo";
+
+    private OtakudesuApiService apiService;
+    private String ongoingBody;
+    private JsonNode ongoingTree;
+    private JsonNode searchTree;
+    private JsonNode detailTree;
+    private JsonNode streamTree;
+
+    @Setup
+    public void setUp() {
+        apiService = new OtakudesuApiService();
+        ongoingBody = BenchmarkFixtures.read("ongoing.json");
+        ongoingTree = BenchmarkFixtures.tree("ongoing.json");
+        searchTree = BenchmarkFixtures.tree("search.json");
+        detailTree = BenchmarkFixtures.tree("anime-detail.json");
+        streamTree = BenchmarkFixtures.tree("episode-stream.json");
+    }
+
+    @Benchmark
+    public List<Anime> parseOngoingList() {
+        return apiService.parseAnimeList(ongoingTree);
+    }
+
+    @Benchmark
+    public List<Anime> parseSearchResults() {
+        return apiService.parseAnimeList(searchTree);
+    }
+
+    @Benchmark
+    public List<Anime> readAndParseOngoingBody() throws IOException {
+        return apiService.parseAnimeList(BenchmarkFixtures.mapper().readTree(ongoingBody));
+    }
+
+    @Benchmark
+    public AnimeDetail parseAnimeDetail() {
+        return apiService.parseAnimeDetail(detailTree, DETAIL_SLUG);
+    }
+
+    @Benchmark
+    public EpisodeStream parseEpisodeStream() {
+        return apiService.parseEpisodeStream(streamTree, EPISODE_SLUG);
+    }
+}
@@ -0,0 +1,39 @@
+package com.aniflow.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+final class BenchmarkFixtures {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    static String read(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static JsonNode tree(String name) {
+        try {
+            return MAPPER.readTree(read(name));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+}
@@ -0,0 +1,46 @@
+package com.aniflow.benchmark;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+import com.aniflow.service.CatalogIndex;
+import com.aniflow.service.OtakudesuApiService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogIndexBenchmark {
+    @Param({"fri", "frieren", "freiren", "jujutsu kai", "fantasy"})
+    public String query;
+
+    private CatalogIndex index;
+
+    @Setup
+    public void setUp() {
+        OtakudesuApiService apiService = new OtakudesuApiService();
+        index = new CatalogIndex();
+        index.addAll(apiService.parseAnimeList(BenchmarkFixtures.tree("ongoing.json")));
+        index.addAll(apiService.parseAnimeList(BenchmarkFixtures.tree("search.json")));
+    }
+
+    @Benchmark
+    public List<Anime> keystroke() {
+        return index.search(query, SearchFilter.empty(), 60);
+    }
+}
@@ -0,0 +1,89 @@
+package com.aniflow.benchmark;
+
+import com.aniflow.model.Anime;
+import com.aniflow.service.LocalLibraryService;
+import com.aniflow.service.OtakudesuApiService;
+import com.aniflow.service.PlaybackProgressService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+    private static final int EPISODE_ROTATION = 320;
+
+    @Param({"40", "200"})
+    public int libraryItems;
+
+    private Path dataDir;
+    private PlaybackProgressService progressService;
+    private LocalLibraryService libraryService;
+    private List<Anime> library;
+    private int tick;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("aniflow-bench");
+        progressService = new PlaybackProgressService(dataDir);
+        libraryService = new LocalLibraryService(dataDir);
+
+        List<Anime> ongoing = new OtakudesuApiService().parseAnimeList(BenchmarkFixtures.tree("ongoing.json"));
+        library = new ArrayList<>(libraryItems);
+        for (int i = 0; i < libraryItems; i++) {
+            library.add(ongoing.get(i % ongoing.size()));
+        }
+        libraryService.saveHistory(library);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveProgress() {
+        int n = tick++;
+        progressService.saveProgress(
+            "frieren-beyond-journey-s-end-sub-indo",
+            "frieren-episode-" + (n % EPISODE_ROTATION) + "-sub-indo",
+            30 + (n % 1400),
+            1440,
+            "interval"
+        );
+    }
+
+    @Benchmark
+    public void saveHistory() {
+        libraryService.saveHistory(library);
+    }
+
+    @Benchmark
+    public List<Anime> loadHistory() {
+        return libraryService.loadHistory();
+    }
+}
@@ -0,0 +1,82 @@
+package com.aniflow.benchmark;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.AnimeDetail;
+import com.aniflow.model.EpisodeStream;
+import com.aniflow.model.SearchFilter;
+import com.aniflow.service.AnimeRepository;
+import com.aniflow.service.OtakudesuApiService;
+import com.aniflow.stub.MockUpstreamServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RepositoryLoadBenchmark {
+    private static final String DETAIL_SLUG = "frieren-beyond-journey-s-end-sub-indo";
+    private static final String EPISODE_SLUG = "frieren-beyond-journey-s-end-episode-12-sub-indo";
+
+    @Param({"0", "40"})
+    public long latencyMs;
+
+    @Param({"0.0", "0.05"})
+    public double errorRate;
+
+    private MockUpstreamServer upstream;
+    private OtakudesuApiService apiService;
+    private AnimeRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        upstream = MockUpstreamServer.start(MockUpstreamServer.Config.instant()
+            .withLatency(latencyMs, latencyMs / 4)
+            .withErrorRate(errorRate));
+        apiService = new OtakudesuApiService(upstream.baseUrl());
+        repository = new AnimeRepository(apiService, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.shutdown();
+        upstream.close();
+    }
+
+    @Benchmark
+    public List<Anime> cachedSearch() {
+        return repository.search("frieren", SearchFilter.empty()).join();
+    }
+
+    @Benchmark
+    public AnimeDetail uncachedEpisodeDetail() {
+        return repository.refreshEpisodeDetail(DETAIL_SLUG).exceptionally(ex -> null).join();
+    }
+
+    @Benchmark
+    public EpisodeStream directEpisodeStream() {
+        try {
+            return apiService.fetchEpisodeStream(EPISODE_SLUG);
+        } catch (IllegalStateException ex) {
+            return null;
+        }
+    }
+}
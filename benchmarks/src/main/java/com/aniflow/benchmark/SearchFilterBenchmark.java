@@ -0,0 +1,60 @@
+package com.aniflow.benchmark;
+
+import com.aniflow.model.Anime;
+import com.aniflow.service.AnimeRepository;
+import com.aniflow.service.OtakudesuApiService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchFilterBenchmark {
+    @Param({"40", "1000"})
+    public int catalogSize;
+
+    @Param({"Fantasy", "sci"})
+    public String genre;
+
+    private List<Anime> catalog;
+
+    @Setup
+    public void setUp() {
+        List<Anime> parsed = new OtakudesuApiService().parseAnimeList(BenchmarkFixtures.tree("search.json"));
+        catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            catalog.add(parsed.get(i % parsed.size()));
+        }
+    }
+
+    @Benchmark
+    public List<Anime> filterByGenre() {
+        return AnimeRepository.filterByGenre(catalog, genre);
+    }
+
+    @Benchmark
+    public List<Anime> filterByStatus() {
+        return AnimeRepository.filterByStatus(catalog, "Ongoing");
+    }
+
+    @Benchmark
+    public List<Anime> filterByGenreAndStatus() {
+        return AnimeRepository.filterByStatus(AnimeRepository.filterByGenre(catalog, genre), "Finished");
+    }
+}
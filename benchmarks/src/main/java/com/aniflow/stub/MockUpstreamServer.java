@@ -0,0 +1,226 @@
+package com.aniflow.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MockUpstreamServer implements AutoCloseable {
+    private static final byte[] HEALTH_BODY = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INJECTED_ERROR_BODY = "{\"error\":\"injected upstream failure\"}".getBytes(StandardCharsets.UTF_8);
+    private static final int SLOW_BODY_TICK_MS = 100;
+
+    private static final List<Route> ROUTES = List.of(
+        new Route("/api/anime/ongoing", true, "ongoing.json"),
+        new Route("/api/anime/home", true, "ongoing.json"),
+        new Route("/api/anime/complete", true, "search.json"),
+        new Route("/api/anime/search", true, "search.json"),
+        new Route("/api/anime/genre", true, "genres.json"),
+        new Route("/api/anime/genre/", false, "search.json"),
+        new Route("/api/anime/details/", false, "anime-detail.json"),
+        new Route("/api/anime/stream/", false, "episode-stream.json"),
+        new Route("/api/anime/health", true, null),
+        new Route("/ongoing", true, "ongoing.json"),
+        new Route("/home", true, "ongoing.json"),
+        new Route("/complete", true, "search.json"),
+        new Route("/search", true, "search.json"),
+        new Route("/genres", true, "genres.json"),
+        new Route("/genre/", false, "search.json"),
+        new Route("/anime/", false, "anime-detail.json"),
+        new Route("/episode/", false, "episode-stream.json"),
+        new Route("/health", true, null)
+    ).stream().sorted(Comparator.comparingInt((Route route) -> route.path().length()).reversed()).toList();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Config config;
+    private final Map<String, byte[]> fixtures = new HashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private MockUpstreamServer(int port, Config config) throws IOException {
+        this.config = config;
+        for (Route route : ROUTES) {
+            if (route.fixture() != null) {
+                fixtures.computeIfAbsent(route.fixture(), MockUpstreamServer::loadFixture);
+            }
+        }
+
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mock-upstream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public static MockUpstreamServer start(Config config) throws IOException {
+        return start(0, config);
+    }
+
+    public static MockUpstreamServer start(int port, Config config) throws IOException {
+        return new MockUpstreamServer(port, config == null ? Config.instant() : config);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try (exchange) {
+            simulateLatency();
+
+            Route route = resolve(exchange.getRequestURI().getPath());
+            if (route == null) {
+                send(exchange, 404, "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (config.errorRate() > 0 && random.nextDouble() < config.errorRate()) {
+                injectedErrors.incrementAndGet();
+                if (random.nextBoolean()) {
+                    send(exchange, 503, INJECTED_ERROR_BODY);
+                } else {
+                    send(exchange, 200, INJECTED_ERROR_BODY);
+                }
+                return;
+            }
+
+            byte[] body = route.fixture() == null ? HEALTH_BODY : fixtures.get(route.fixture());
+            if (config.slowBodyBytesPerSec() > 0) {
+                sendSlowly(exchange, body);
+            } else {
+                send(exchange, 200, body);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Route resolve(String path) {
+        for (Route route : ROUTES) {
+            if (route.exact() ? route.path().equals(path) : path.startsWith(route.path()) && path.length() > route.path().length()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long delay = config.latencyMs();
+        if (config.jitterMs() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-config.jitterMs(), config.jitterMs() + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void sendSlowly(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        int chunk = Math.max(1, config.slowBodyBytesPerSec() * SLOW_BODY_TICK_MS / 1000);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < body.length; offset += chunk) {
+                out.write(body, offset, Math.min(chunk, body.length - offset));
+                out.flush();
+                Thread.sleep(SLOW_BODY_TICK_MS);
+            }
+        }
+    }
+
+    private static byte[] loadFixture(String name) {
+        try (InputStream in = MockUpstreamServer.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 8787;
+        Config config = Config.instant();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(value);
+                case "--latency" -> config = config.withLatency(Long.parseLong(value), config.jitterMs());
+                case "--jitter" -> config = config.withLatency(config.latencyMs(), Long.parseLong(value));
+                case "--error-rate" -> config = config.withErrorRate(Double.parseDouble(value));
+                case "--slow-body" -> config = config.withSlowBody(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        MockUpstreamServer server = start(port, config);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("[Mock Upstream] " + server.baseUrl() + " " + config);
+        System.out.println("[Mock Upstream] run the app with -Daniflow.api.baseUrl=" + server.baseUrl());
+        Thread.currentThread().join();
+    }
+
+    public record Config(long latencyMs, long jitterMs, double errorRate, int slowBodyBytesPerSec) {
+        public static Config instant() {
+            return new Config(0, 0, 0, 0);
+        }
+
+        public Config withLatency(long latencyMs, long jitterMs) {
+            return new Config(latencyMs, jitterMs, errorRate, slowBodyBytesPerSec);
+        }
+
+        public Config withErrorRate(double errorRate) {
+            return new Config(latencyMs, jitterMs, errorRate, slowBodyBytesPerSec);
+        }
+
+        public Config withSlowBody(int slowBodyBytesPerSec) {
+            return new Config(latencyMs, jitterMs, errorRate, slowBodyBytesPerSec);
+        }
+    }
+
+    private record Route(String path, boolean exact, String fixture) {
+    }
+}
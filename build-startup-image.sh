@@ -0,0 +1,84 @@
+#!/bin/bash
+# Bangun runtime jlink + arsip AppCDS untuk AniFlow.
+# Dipanggil dari profile Maven: mvn -Pstartup-image -DskipTests package
+
+set -euo pipefail
+
+TARGET_DIR="${1:?target dir}"
+APP_JAR="${2:?nama jar aplikasi}"
+IMAGE_DIR="${3:-$TARGET_DIR/aniflow-image}"
+
+LIB_DIR="$TARGET_DIR/lib"
+FX_MODS="$TARGET_DIR/fx-mods"
+JAVA_HOME="${JAVA_HOME:-$(dirname "$(dirname "$(readlink -f "$(command -v java)")")")}"
+JDK_MODULES="java.base,java.desktop,java.logging,java.management,java.net.http,java.prefs,java.sql,java.xml,jdk.crypto.ec,jdk.httpserver,jdk.unsupported,jdk.zipfs"
+FX_MODULES="javafx.base,javafx.graphics,javafx.controls,javafx.media"
+
+echo "[startup-image] Menyiapkan modul JavaFX"
+rm -rf "$FX_MODS" "$IMAGE_DIR"
+mkdir -p "$FX_MODS"
+# Jar JavaFX tanpa classifier hanya berisi manifest; modul asli ada di jar ber-classifier platform.
+for jar in "$LIB_DIR"/javafx-*-[0-9]*-*.jar; do
+  mv "$jar" "$FX_MODS/"
+done
+rm -f "$LIB_DIR"/javafx-*.jar
+
+echo "[startup-image] jlink runtime -> $IMAGE_DIR"
+"$JAVA_HOME/bin/jlink" \
+  --module-path "$JAVA_HOME/jmods:$FX_MODS" \
+  --add-modules "$JDK_MODULES,$FX_MODULES" \
+  --strip-debug \
+  --no-header-files \
+  --no-man-pages \
+  --compress=2 \
+  --output "$IMAGE_DIR"
+
+mkdir -p "$IMAGE_DIR/app"
+cp "$TARGET_DIR/$APP_JAR" "$IMAGE_DIR/app/aniflow.jar"
+cp "$LIB_DIR"/*.jar "$IMAGE_DIR/app/"
+
+CLASSPATH="app/aniflow.jar"
+for jar in "$IMAGE_DIR"/app/*.jar; do
+  name="$(basename "$jar")"
+  if [ "$name" != "aniflow.jar" ]; then
+    CLASSPATH="$CLASSPATH:app/$name"
+  fi
+done
+echo "$CLASSPATH" > "$IMAGE_DIR/app/classpath"
+
+cat > "$IMAGE_DIR/bin/aniflow" <<'LAUNCHER'
+#!/bin/bash
+set -euo pipefail
+IMAGE_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$IMAGE_DIR"
+CDS_OPTS=()
+if [ -f "$IMAGE_DIR/lib/aniflow.jsa" ] && [ "${ANIFLOW_CDS:-on}" != "off" ]; then
+  CDS_OPTS=(-XX:SharedArchiveFile="$IMAGE_DIR/lib/aniflow.jsa" -Xshare:auto)
+fi
+exec "$IMAGE_DIR/bin/java" \
+  "${CDS_OPTS[@]}" \
+  --add-opens=javafx.controls/com.sun.javafx.scene.control.behavior=ALL-UNNAMED \
+  --add-opens=javafx.controls/com.sun.javafx.scene.control=ALL-UNNAMED \
+  --add-opens=javafx.base/com.sun.javafx.binding=ALL-UNNAMED \
+  ${ANIFLOW_JAVA_OPTS:-} \
+  -cp "$(cat "$IMAGE_DIR/app/classpath")" \
+  com.aniflow.app.AniFlowApp "$@"
+LAUNCHER
+chmod +x "$IMAGE_DIR/bin/aniflow"
+
+echo "[startup-image] Base CDS archive untuk runtime jlink"
+"$IMAGE_DIR/bin/java" -Xshare:dump >/dev/null
+
+echo "[startup-image] Training run (Home -> Search -> Player -> Profile)"
+TRAINING_CMD=(env ANIFLOW_CDS=off ANIFLOW_JAVA_OPTS="-XX:ArchiveClassesAtExit=$IMAGE_DIR/lib/aniflow.jsa -Daniflow.cds.training=true" "$IMAGE_DIR/bin/aniflow")
+if [ -z "${DISPLAY:-}" ] && command -v xvfb-run >/dev/null 2>&1; then
+  LIBGL_ALWAYS_SOFTWARE=1 JAVA_TOOL_OPTIONS="-Dprism.order=sw" xvfb-run -a -s '-screen 0 1366x900x24' "${TRAINING_CMD[@]}"
+else
+  "${TRAINING_CMD[@]}"
+fi
+
+if [ -f "$IMAGE_DIR/lib/aniflow.jsa" ]; then
+  echo "[startup-image] Selesai: $IMAGE_DIR/bin/aniflow (AppCDS $(du -h "$IMAGE_DIR/lib/aniflow.jsa" | cut -f1))"
+else
+  echo "[startup-image] Training run tidak menghasilkan arsip CDS; launcher tetap jalan tanpa CDS."
+fi
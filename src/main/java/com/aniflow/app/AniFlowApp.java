@@ -1,83 +1,229 @@
 package com.aniflow.app;
 
+import com.aniflow.metrics.MetricsExporter;
+import com.aniflow.metrics.MetricsRegistry;
 import com.aniflow.model.Anime;
 import com.aniflow.service.AnalyticsService;
 import com.aniflow.service.AnimeRepository;
 import com.aniflow.service.CastService;
 import com.aniflow.service.DownloadService;
+import com.aniflow.service.LatestEpisodeStore;
 import com.aniflow.service.LocalLibraryService;
 import com.aniflow.service.NotificationService;
 import com.aniflow.service.OtakudesuApiService;
 import com.aniflow.service.PlaybackProgressService;
 import com.aniflow.service.SettingsService;
+import com.aniflow.service.StreamCacheProxy;
+import com.aniflow.service.StreamProbeService;
 import com.aniflow.ui.MainLayout;
 import com.aniflow.ui.theme.ThemeManager;
 import com.aniflow.util.AppIconGenerator;
 import com.aniflow.util.DesktopNotifier;
+import javafx.animation.PauseTransition;
+import javafx.animation.SequentialTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class AniFlowApp extends Application {
+    private static final boolean TRAINING_RUN = Boolean.getBoolean("aniflow.cds.training");
+    private static final boolean EXIT_AFTER_REPORT = Boolean.getBoolean("aniflow.startup.exitAfterReport");
+    private static final Duration TRAINING_STEP = Duration.seconds(2.5);
+
     private AnimeRepository repository;
     private DownloadService downloadService;
     private NotificationService notificationService;
+    private StreamCacheProxy streamProxy;
     private MainLayout mainLayout;
+    private MetricsExporter metricsExporter;
     private boolean shutdownTriggered;
 
     @Override
     public void start(Stage stage) {
+        StartupTimeline timeline = new StartupTimeline();
         AppState state = new AppState();
 
         SettingsService settingsService = new SettingsService();
-        settingsService.load(state);
-        settingsService.bind(state);
+        timeline.measure("settings", () -> {
+            settingsService.load(state);
+            settingsService.bind(state);
+        });
+
+        metricsExporter = new MetricsExporter(MetricsRegistry.global());
+        metricsExporter.start();
 
         OtakudesuApiService apiService = new OtakudesuApiService();
         repository = new AnimeRepository(apiService, state);
         downloadService = new DownloadService();
-        CastService castService = new CastService();
-        AnalyticsService analyticsService = new AnalyticsService();
-        PlaybackProgressService progressService = new PlaybackProgressService();
-
+        streamProxy = new StreamCacheProxy();
         LocalLibraryService localLibraryService = new LocalLibraryService();
-        List<Anime> history = localLibraryService.loadHistory();
-        List<Anime> watchlist = localLibraryService.loadWatchlist();
-        state.getHistory().setAll(history);
-        state.getWatchlist().setAll(watchlist);
+
+        ExecutorService bootstrap = Executors.newFixedThreadPool(4);
+        CompletableFuture<LibrarySnapshot> library = timeline.measureAsync("library-load", () -> new LibrarySnapshot(
+            localLibraryService.loadHistory(),
+            localLibraryService.loadWatchlist()
+        ), bootstrap).exceptionally(ex -> new LibrarySnapshot(List.of(), List.of()));
+        CompletableFuture<PlaybackProgressService> progress = timeline.measureAsync("progress-index", PlaybackProgressService::new, bootstrap);
+        CompletableFuture<LatestEpisodeStore> episodeStore = timeline.measureAsync("episode-store", LatestEpisodeStore::new, bootstrap);
+        CompletableFuture<Void> diskCache = CompletableFuture.runAsync(() -> timeline.measure("stream-cache-open", streamProxy::warmUp), bootstrap)
+            .exceptionally(ex -> null);
+
+        Parent skeleton = timeline.measure("skeleton", this::buildSkeleton);
+        ThemeManager.bind(skeleton, state);
+        Scene scene = new Scene(skeleton, 1366, 900);
+        timeline.measure("css", () -> scene.getStylesheets().add(getClass().getResource("/css/app.css").toExternalForm()));
+
+        stage.setTitle("AniFlow - Anime Streaming");
+        stage.setMinWidth(1080);
+        stage.setMinHeight(720);
+        stage.setScene(scene);
+        stage.setOnCloseRequest(event -> shutdown());
+        stage.show();
+        timeline.mark("stage-shown");
+
+        Platform.runLater(() -> timeline.measure("app-icon", () -> stage.getIcons().add(AppIconGenerator.createAppIcon())));
+
+        CompletableFuture.allOf(library, progress, episodeStore, diskCache)
+            .whenComplete((ignored, error) -> {
+                bootstrap.shutdown();
+                Platform.runLater(() -> {
+                    try {
+                        finishStartup(
+                            timeline,
+                            state,
+                            scene,
+                            localLibraryService,
+                            library.join(),
+                            progress.join(),
+                            episodeStore.join()
+                        );
+                    } catch (RuntimeException ex) {
+                        showStartupFailure(scene, ex);
+                    }
+                });
+            });
+    }
+
+    private void finishStartup(StartupTimeline timeline,
+                               AppState state,
+                               Scene scene,
+                               LocalLibraryService localLibraryService,
+                               LibrarySnapshot library,
+                               PlaybackProgressService progressService,
+                               LatestEpisodeStore episodeStore) {
+        if (shutdownTriggered) {
+            return;
+        }
+
+        DesktopNotifier notifier = timeline.measure("tray-notifier", DesktopNotifier::new);
+
+        state.getHistory().setAll(library.history());
+        state.getWatchlist().setAll(library.watchlist());
+        repository.indexCatalog(library.history());
+        repository.indexCatalog(library.watchlist());
 
         state.getHistory().addListener((ListChangeListener<Anime>) change ->
             localLibraryService.saveHistory(state.getHistory()));
         state.getWatchlist().addListener((ListChangeListener<Anime>) change ->
             localLibraryService.saveWatchlist(state.getWatchlist()));
 
-        DesktopNotifier notifier = new DesktopNotifier();
         state.offlineModeProperty().addListener((obs, oldValue, offline) -> {
             if (offline) {
                 notifier.notify("AniFlow", "Koneksi terputus. Menampilkan data dari cache.");
             }
         });
-        notificationService = new NotificationService(state, repository, downloadService, notifier);
+        notificationService = new NotificationService(state, repository, downloadService, notifier, episodeStore);
         notificationService.seedWatchlist(state.getWatchlist());
         notificationService.start();
 
-        mainLayout = new MainLayout(state, repository, downloadService, castService, analyticsService, progressService);
+        mainLayout = timeline.measure("main-layout", () -> new MainLayout(
+            state,
+            repository,
+            downloadService,
+            new CastService(),
+            new AnalyticsService(),
+            progressService,
+            new StreamProbeService(),
+            streamProxy
+        ));
         ThemeManager.bind(mainLayout, state);
+        scene.setRoot(mainLayout);
+        timeline.mark("main-layout-attached");
 
-        Scene scene = new Scene(mainLayout, 1366, 900);
-        scene.getStylesheets().add(getClass().getResource("/css/app.css").toExternalForm());
+        Platform.runLater(() -> {
+            timeline.report();
+            if (TRAINING_RUN) {
+                runTrainingTour(state);
+            } else if (EXIT_AFTER_REPORT) {
+                Platform.exit();
+            }
+        });
+    }
 
-        stage.setTitle("AniFlow - Anime Streaming");
-        stage.getIcons().add(AppIconGenerator.createAppIcon());
-        stage.setMinWidth(1080);
-        stage.setMinHeight(720);
-        stage.setScene(scene);
-        stage.show();
+    private void runTrainingTour(AppState state) {
+        SequentialTransition tour = new SequentialTransition();
+        for (Page page : List.of(Page.SEARCH, Page.PLAYER, Page.PROFILE, Page.HOME)) {
+            PauseTransition step = new PauseTransition(TRAINING_STEP);
+            step.setOnFinished(event -> state.setCurrentPage(page));
+            tour.getChildren().add(step);
+        }
+        tour.getChildren().add(new PauseTransition(TRAINING_STEP));
+        tour.setOnFinished(event -> Platform.exit());
+        tour.play();
+    }
 
-        stage.setOnCloseRequest(event -> shutdown());
+    private void showStartupFailure(Scene scene, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        System.err.println("[AniFlow] startup failed: " + cause);
+
+        Label title = new Label("AniFlow gagal dimulai");
+        title.getStyleClass().add("large-title");
+
+        Label detail = new Label(cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage());
+        detail.setWrapText(true);
+        detail.setMaxWidth(560);
+
+        Button close = new Button("Tutup");
+        close.setOnAction(event -> Platform.exit());
+
+        VBox content = new VBox(18, title, detail, close);
+        content.setAlignment(Pos.CENTER);
+
+        StackPane failure = new StackPane(content);
+        failure.getStyleClass().add("main-shell");
+        scene.setRoot(failure);
+    }
+
+    private Parent buildSkeleton() {
+        Label title = new Label("AniFlow");
+        title.getStyleClass().add("large-title");
+
+        ProgressIndicator spinner = new ProgressIndicator();
+        spinner.getStyleClass().add("ios-spinner");
+        spinner.setMaxSize(46, 46);
+
+        VBox content = new VBox(18, title, spinner);
+        content.setAlignment(Pos.CENTER);
+
+        StackPane skeleton = new StackPane(content);
+        skeleton.getStyleClass().add("main-shell");
+        return skeleton;
     }
 
     @Override
@@ -98,15 +244,24 @@ public class AniFlowApp extends Application {
         if (notificationService != null) {
             notificationService.stop();
         }
+        if (streamProxy != null) {
+            streamProxy.shutdown();
+        }
         if (downloadService != null) {
             downloadService.shutdown();
         }
         if (repository != null) {
             repository.shutdown();
         }
+        if (metricsExporter != null) {
+            metricsExporter.shutdown();
+        }
     }
 
     public static void main(String[] args) {
         launch(args);
     }
+
+    private record LibrarySnapshot(List<Anime> history, List<Anime> watchlist) {
+    }
 }
@@ -13,6 +13,7 @@ public class AppState {
     private final BooleanProperty batteryEfficientMode = new SimpleBooleanProperty(false);
     private final BooleanProperty offlineMode = new SimpleBooleanProperty(false);
     private final BooleanProperty autoDownloadNewEpisode = new SimpleBooleanProperty(false);
+    private final BooleanProperty performanceOverlay = new SimpleBooleanProperty(false);
     private final ObjectProperty<Page> currentPage = new SimpleObjectProperty<>(Page.HOME);
     private final ObjectProperty<Anime> currentPlayingAnime = new SimpleObjectProperty<>();
     private final ObservableList<Anime> watchlist = FXCollections.observableArrayList();
@@ -66,6 +67,18 @@ public class AppState {
         autoDownloadNewEpisode.set(enabled);
     }
 
+    public BooleanProperty performanceOverlayProperty() {
+        return performanceOverlay;
+    }
+
+    public boolean isPerformanceOverlay() {
+        return performanceOverlay.get();
+    }
+
+    public void setPerformanceOverlay(boolean enabled) {
+        performanceOverlay.set(enabled);
+    }
+
     public ObjectProperty<Page> currentPageProperty() {
         return currentPage;
     }
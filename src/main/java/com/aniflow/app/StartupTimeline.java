@@ -0,0 +1,99 @@
+package com.aniflow.app;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class StartupTimeline {
+    private static final long COLD_START_BUDGET_MS = Long.getLong("aniflow.startup.budgetMs", 1500);
+
+    private final long originNs = System.nanoTime();
+    private final long launchOffsetMs;
+    private final List<Phase> phases = new ArrayList<>();
+
+    public StartupTimeline() {
+        this.launchOffsetMs = ProcessHandle.current().info().startInstant()
+            .map(launch -> Duration.between(launch, Instant.now()).toMillis())
+            .orElse(-1L);
+    }
+
+    public <T> T measure(String name, Supplier<T> work) {
+        long startNs = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(name, startNs);
+        }
+    }
+
+    public void measure(String name, Runnable work) {
+        measure(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> CompletableFuture<T> measureAsync(String name, Supplier<T> work, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> measure(name, work), executor);
+    }
+
+    public void mark(String name) {
+        record(name, System.nanoTime());
+    }
+
+    public long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNs);
+    }
+
+    public void report() {
+        List<Phase> snapshot;
+        synchronized (phases) {
+            snapshot = new ArrayList<>(phases);
+        }
+        snapshot.sort(Comparator.comparingLong(Phase::startMs).thenComparingLong(Phase::durationMs));
+
+        long total = elapsedMs();
+        StringBuilder out = new StringBuilder("[AniFlow Startup] timeline");
+        if (launchOffsetMs >= 0) {
+            out.append(" (JVM launch -> start(): ").append(launchOffsetMs).append(" ms)");
+        }
+        for (Phase phase : snapshot) {
+            out.append(System.lineSeparator())
+                .append(String.format("  +%5d ms  %-22s %5d ms  [%s]", phase.startMs(), phase.name(), phase.durationMs(), phase.thread()));
+        }
+
+        snapshot.stream()
+            .filter(phase -> "stage-shown".equals(phase.name()))
+            .findFirst()
+            .ifPresent(shown -> out.append(System.lineSeparator())
+                .append("  launch-to-window ").append(Math.max(0, launchOffsetMs) + shown.startMs()).append(" ms"));
+
+        long coldStart = launchOffsetMs >= 0 ? launchOffsetMs + total : total;
+        out.append(System.lineSeparator())
+            .append("  cold start ").append(coldStart).append(" ms / budget ").append(COLD_START_BUDGET_MS).append(" ms")
+            .append(coldStart > COLD_START_BUDGET_MS ? " (OVER BUDGET)" : "");
+        System.out.println(out);
+    }
+
+    private void record(String name, long startNs) {
+        long endNs = System.nanoTime();
+        Phase phase = new Phase(
+            name,
+            TimeUnit.NANOSECONDS.toMillis(startNs - originNs),
+            TimeUnit.NANOSECONDS.toMillis(endNs - startNs),
+            Thread.currentThread().getName()
+        );
+        synchronized (phases) {
+            phases.add(phase);
+        }
+    }
+
+    public record Phase(String name, long startMs, long durationMs, String thread) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.aniflow.demo;
+
+final class BackdropBlur {
+    private static final int PASSES = 3;
+
+    private int[] scratch = new int[0];
+
+    void apply(int[] pixels, int width, int height, double sigma) {
+        if (sigma < 0.5 || width < 2 || height < 2) {
+            return;
+        }
+        if (scratch.length < width * height) {
+            scratch = new int[width * height];
+        }
+
+        int[] radii = boxRadii(sigma);
+        for (int radius : radii) {
+            if (radius > 0) {
+                blurHorizontal(pixels, scratch, width, height, radius);
+                blurVertical(scratch, pixels, width, height, radius);
+            }
+        }
+    }
+
+    private static int[] boxRadii(double sigma) {
+        double idealWidth = Math.sqrt(12.0 * sigma * sigma / PASSES + 1.0);
+        int lower = (int) Math.floor(idealWidth);
+        if (lower % 2 == 0) {
+            lower--;
+        }
+        int upper = lower + 2;
+        double idealLowerCount = (12.0 * sigma * sigma - PASSES * lower * lower - 4.0 * PASSES * lower - 3.0 * PASSES)
+            / (-4.0 * lower - 4.0);
+        long lowerCount = Math.round(idealLowerCount);
+
+        int[] radii = new int[PASSES];
+        for (int i = 0; i < PASSES; i++) {
+            radii[i] = ((i < lowerCount ? lower : upper) - 1) / 2;
+        }
+        return radii;
+    }
+
+    private static void blurHorizontal(int[] src, int[] dst, int width, int height, int radius) {
+        float scale = 1.0f / (radius * 2 + 1);
+        int last = width - 1;
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int a = 0;
+            int r = 0;
+            int g = 0;
+            int b = 0;
+            for (int i = -radius; i <= radius; i++) {
+                int p = src[row + Math.max(0, Math.min(last, i))];
+                a += p >>> 24;
+                r += (p >> 16) & 0xFF;
+                g += (p >> 8) & 0xFF;
+                b += p & 0xFF;
+            }
+            for (int x = 0; x < width; x++) {
+                dst[row + x] = pack(a, r, g, b, scale);
+                int out = src[row + Math.max(0, x - radius)];
+                int in = src[row + Math.min(last, x + radius + 1)];
+                a += (in >>> 24) - (out >>> 24);
+                r += ((in >> 16) & 0xFF) - ((out >> 16) & 0xFF);
+                g += ((in >> 8) & 0xFF) - ((out >> 8) & 0xFF);
+                b += (in & 0xFF) - (out & 0xFF);
+            }
+        }
+    }
+
+    private static void blurVertical(int[] src, int[] dst, int width, int height, int radius) {
+        float scale = 1.0f / (radius * 2 + 1);
+        int last = height - 1;
+        for (int x = 0; x < width; x++) {
+            int a = 0;
+            int r = 0;
+            int g = 0;
+            int b = 0;
+            for (int i = -radius; i <= radius; i++) {
+                int p = src[Math.max(0, Math.min(last, i)) * width + x];
+                a += p >>> 24;
+                r += (p >> 16) & 0xFF;
+                g += (p >> 8) & 0xFF;
+                b += p & 0xFF;
+            }
+            for (int y = 0; y < height; y++) {
+                dst[y * width + x] = pack(a, r, g, b, scale);
+                int out = src[Math.max(0, y - radius) * width + x];
+                int in = src[Math.min(last, y + radius + 1) * width + x];
+                a += (in >>> 24) - (out >>> 24);
+                r += ((in >> 16) & 0xFF) - ((out >> 16) & 0xFF);
+                g += ((in >> 8) & 0xFF) - ((out >> 8) & 0xFF);
+                b += (in & 0xFF) - (out & 0xFF);
+            }
+        }
+    }
+
+    private static int pack(int a, int r, int g, int b, float scale) {
+        return (Math.round(a * scale) << 24)
+            | (Math.round(r * scale) << 16)
+            | (Math.round(g * scale) << 8)
+            | Math.round(b * scale);
+    }
+}
@@ -1,10 +1,16 @@
 package com.aniflow.demo;
 
+import com.aniflow.util.AnimationBudget;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import javafx.animation.Animation;
@@ -15,6 +21,7 @@ import javafx.animation.KeyValue;
 import javafx.animation.PauseTransition;
 import javafx.animation.ScaleTransition;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -22,7 +29,10 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.geometry.Bounds;
@@ -30,17 +40,20 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.effect.GaussianBlur;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
@@ -56,6 +69,8 @@ import javafx.scene.paint.Paint;
 import javafx.scene.paint.RadialGradient;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
 import javafx.util.Duration;
 
 public final class LiquidGlassNavbar extends StackPane {
@@ -87,6 +102,14 @@ public final class LiquidGlassNavbar extends StackPane {
     private static final double NAVBAR_HEIGHT = 64.0;
     private static final double CONTENT_GAP = 8.0;
     private static final double LABEL_HIDE_BREAKPOINT = 560.0;
+    private static final double BACKDROP_SCALE = 0.25;
+    private static final double BACKDROP_SCALE_BATTERY = 0.125;
+    private static final int BACKDROP_WATCH_LIMIT = 256;
+    private static final ExecutorService BLUR_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aniflow-glass-blur");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final DoubleProperty opacity = new SimpleDoubleProperty(this, "opacity", 0.30);
     private final DoubleProperty blurRadius = new SimpleDoubleProperty(this, "blurRadius", 18.0);
@@ -94,6 +117,7 @@ public final class LiquidGlassNavbar extends StackPane {
     private final DoubleProperty highlightStrength = new SimpleDoubleProperty(this, "highlightStrength", 0.36);
     private final BooleanProperty enableShimmer = new SimpleBooleanProperty(this, "enableShimmer", true);
     private final BooleanProperty highContrastMode = new SimpleBooleanProperty(this, "highContrastMode", false);
+    private final BooleanProperty batterySaver = new SimpleBooleanProperty(this, "batterySaver", false);
     private final ObjectProperty<Consumer<String>> onNavSelected = new SimpleObjectProperty<>(this, "onNavSelected");
     private final ObjectProperty<Node> backdropSource = new SimpleObjectProperty<>(this, "backdropSource");
     private final ObjectProperty<String> selectedId = new SimpleObjectProperty<>(this, "selectedId", "home");
@@ -115,16 +139,38 @@ public final class LiquidGlassNavbar extends StackPane {
     private final HBox itemRow = new HBox(CONTENT_GAP);
     private final HBox rowWrap = new HBox(8.0);
 
-    private final PauseTransition backdropRefreshDebounce = new PauseTransition(Duration.millis(90));
-    private final Timeline backdropPoller = new Timeline();
+    private final PauseTransition backdropRefreshThrottle = new PauseTransition(Duration.millis(90));
     private final Timeline shimmerTimeline = new Timeline();
     private final Timeline indicatorTimeline = new Timeline();
     private final Timeline liquidFollowTimeline = new Timeline();
-    private final GaussianBlur backdropBlur = new GaussianBlur(18.0);
+    private final BackdropBlur backdropBlur = new BackdropBlur();
+
+    private Window watchedWindow;
+    private boolean backdropStale = true;
+    private boolean backdropWatchDirty = true;
+    private boolean blurInFlight;
+    private boolean blurPending;
+
     private final ChangeListener<Number> sceneWidthListener = (o, ov, nv) -> updateResponsiveMode(getWidth());
     private final EventHandler<KeyEvent> sceneKeyHandler = this::onKeyPressed;
+    private final ChangeListener<Object> backdropChangeListener = (o, ov, nv) -> onBackdropChanged();
+    private final ListChangeListener<Node> backdropStructureListener = change -> {
+        backdropWatchDirty = true;
+        onBackdropChanged();
+    };
+    private final EventHandler<ScrollEvent> backdropScrollHandler = e -> onBackdropChanged();
+    private final ChangeListener<Window> windowListener = (o, oldWindow, newWindow) -> watchWindow(newWindow);
+    private final ChangeListener<Boolean> windowFocusListener = (o, ov, focused) -> {
+        if (focused && backdropStale) {
+            requestBackdropRefresh();
+        }
+    };
+    private final List<Runnable> backdropWatchers = new ArrayList<>();
+    private final ChangeListener<AnimationBudget.Quality> qualityListener = (o, ov, nv) -> onAnimationQualityChanged();
 
-    private WritableImage cachedBackdrop;
+    private WritableImage backdropSnapshot;
+    private WritableImage blurredBackdrop;
+    private int[] backdropPixels = new int[0];
     private double targetIndicatorX = 0.0;
     private double targetIndicatorWidth = 96.0;
     private double targetHighlightX = 0.0;
@@ -322,6 +368,18 @@ public final class LiquidGlassNavbar extends StackPane {
         return highContrastMode;
     }
 
+    public boolean isBatterySaver() {
+        return batterySaver.get();
+    }
+
+    public void setBatterySaver(boolean enabled) {
+        batterySaver.set(enabled);
+    }
+
+    public BooleanProperty batterySaverProperty() {
+        return batterySaver;
+    }
+
     public void setBackdropSource(Node source) {
         backdropSource.set(source);
     }
@@ -335,7 +393,13 @@ public final class LiquidGlassNavbar extends StackPane {
     }
 
     public void requestBackdropRefresh() {
-        backdropRefreshDebounce.playFromStart();
+        backdropStale = true;
+        if (isBackdropPaused()) {
+            return;
+        }
+        if (backdropRefreshThrottle.getStatus() != Animation.Status.RUNNING) {
+            backdropRefreshThrottle.playFromStart();
+        }
     }
 
     @Override
@@ -394,7 +458,6 @@ public final class LiquidGlassNavbar extends StackPane {
     }
 
     private void setupStaticEffects() {
-        backdropView.setEffect(backdropBlur);
         backdropView.setClip(new Rectangle());
         ((Rectangle) backdropView.getClip()).arcWidthProperty().bind(cornerRadius.multiply(2.0));
         ((Rectangle) backdropView.getClip()).arcHeightProperty().bind(cornerRadius.multiply(2.0));
@@ -443,19 +506,13 @@ public final class LiquidGlassNavbar extends StackPane {
         shimmerTimeline.setCycleCount(Animation.INDEFINITE);
         shimmerTimeline.setDelay(Duration.millis(1400));
 
-        backdropPoller.getKeyFrames().setAll(new KeyFrame(Duration.millis(180), e -> refreshBackdrop()));
-        backdropPoller.setCycleCount(Animation.INDEFINITE);
-
         setBackground(Background.EMPTY);
         setManaged(true);
     }
 
     private void configureListeners() {
         opacity.addListener((obs, oldV, newV) -> refreshThemePaints());
-        blurRadius.addListener((obs, oldV, newV) -> {
-            backdropBlur.setRadius(newV.doubleValue());
-            requestBackdropRefresh();
-        });
+        blurRadius.addListener((obs, oldV, newV) -> requestBackdropRefresh());
         cornerRadius.addListener((obs, oldV, newV) -> {
             requestLayout();
             refreshThemePaints();
@@ -466,22 +523,29 @@ public final class LiquidGlassNavbar extends StackPane {
             refreshButtonStates();
         });
 
-        enableShimmer.addListener((obs, oldV, enabled) -> {
-            if (enabled) {
-                shimmerTimeline.play();
-            } else {
-                shimmerTimeline.stop();
-                shimmer.setOpacity(0.0);
-            }
-        });
+        AnimationBudget budget = AnimationBudget.global();
+        budget.track(shimmerTimeline);
+        budget.track(indicatorTimeline);
+        budget.track(liquidFollowTimeline);
+        budget.qualityProperty().addListener(new WeakChangeListener<>(qualityListener));
+        enableShimmer.addListener((obs, oldV, enabled) -> updateShimmer());
 
         selectedId.addListener((obs, oldV, newV) -> {
             refreshButtonStates();
             alignIndicatorToSelection(true);
         });
 
-        backdropSource.addListener((obs, oldV, newV) -> requestBackdropRefresh());
-        backdropRefreshDebounce.setOnFinished(e -> refreshBackdrop());
+        backdropSource.addListener((obs, oldV, newV) -> {
+            backdropWatchDirty = true;
+            requestBackdropRefresh();
+        });
+        backdropRefreshThrottle.setOnFinished(e -> refreshBackdrop());
+        batterySaver.addListener((obs, oldV, enabled) -> {
+            updateShimmer();
+            if (!enabled && backdropStale) {
+                requestBackdropRefresh();
+            }
+        });
 
         widthProperty().addListener((obs, oldV, newV) -> requestBackdropRefresh());
         heightProperty().addListener((obs, oldV, newV) -> requestBackdropRefresh());
@@ -491,14 +555,17 @@ public final class LiquidGlassNavbar extends StackPane {
             if (oldScene != null) {
                 oldScene.removeEventFilter(KeyEvent.KEY_PRESSED, sceneKeyHandler);
                 oldScene.widthProperty().removeListener(sceneWidthListener);
-                backdropPoller.stop();
+                oldScene.windowProperty().removeListener(windowListener);
+                backdropRefreshThrottle.stop();
             }
             if (newScene != null) {
                 newScene.addEventFilter(KeyEvent.KEY_PRESSED, sceneKeyHandler);
                 newScene.widthProperty().addListener(sceneWidthListener);
-                requestBackdropRefresh();
-                backdropPoller.play();
+                newScene.windowProperty().addListener(windowListener);
             }
+            watchWindow(newScene == null ? null : newScene.getWindow());
+            backdropWatchDirty = true;
+            requestBackdropRefresh();
         });
 
         setOnMouseMoved(this::onMouseMoved);
@@ -517,26 +584,11 @@ public final class LiquidGlassNavbar extends StackPane {
 
         liquidFollowTimeline.getKeyFrames().setAll(
             new KeyFrame(Duration.ZERO),
-            new KeyFrame(Duration.millis(1000 / 60.0), e -> {
-                currentHighlightX = lerp(currentHighlightX, targetHighlightX, 0.22);
-                currentHighlightY = lerp(currentHighlightY, targetHighlightY, 0.22);
-                liquidLayer.setFill(new RadialGradient(
-                    0, 0,
-                    currentHighlightX, currentHighlightY, Math.max(150, getWidth() * 0.45),
-                    false, CycleMethod.NO_CYCLE,
-                    new Stop(0.0, Color.rgb(255, 255, 255, highContrastMode.get() ? 0.16 : 0.22 * clamp(highlightStrength.get(), 0, 1))),
-                    new Stop(0.55, Color.rgb(255, 255, 255, highContrastMode.get() ? 0.05 : 0.08 * clamp(highlightStrength.get(), 0, 1))),
-                    new Stop(1.0, Color.rgb(255, 255, 255, 0.00))
-                ));
-                borderLayer.setFill(Color.TRANSPARENT);
-            })
+            new KeyFrame(Duration.millis(1000 / 60.0), e -> stepLiquidHighlight())
         );
         liquidFollowTimeline.setCycleCount(Animation.INDEFINITE);
-        liquidFollowTimeline.play();
 
-        if (enableShimmer.get()) {
-            shimmerTimeline.play();
-        }
+        updateShimmer();
     }
 
     private void refreshThemePaints() {
@@ -581,9 +633,81 @@ public final class LiquidGlassNavbar extends StackPane {
         }
     }
 
+    private void onBackdropChanged() {
+        if (batterySaver.get()) {
+            backdropStale = true;
+            return;
+        }
+        requestBackdropRefresh();
+    }
+
+    private boolean isBackdropPaused() {
+        return watchedWindow != null && !watchedWindow.isFocused();
+    }
+
+    private void watchWindow(Window window) {
+        if (watchedWindow != null) {
+            watchedWindow.focusedProperty().removeListener(windowFocusListener);
+        }
+        watchedWindow = window;
+        if (window != null) {
+            window.focusedProperty().addListener(windowFocusListener);
+        }
+    }
+
+    private void rewatchBackdrop() {
+        backdropWatchers.forEach(Runnable::run);
+        backdropWatchers.clear();
+        backdropWatchDirty = false;
+
+        Node source = backdropSource.get();
+        if (source == null || getScene() == null) {
+            return;
+        }
+
+        source.addEventFilter(ScrollEvent.ANY, backdropScrollHandler);
+        backdropWatchers.add(() -> source.removeEventFilter(ScrollEvent.ANY, backdropScrollHandler));
+        watchBackdrop(source.localToSceneTransformProperty());
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.add(source);
+        int watched = 0;
+        while (!pending.isEmpty() && watched < BACKDROP_WATCH_LIMIT) {
+            Node node = pending.poll();
+            watched++;
+            watchBackdrop(node.boundsInParentProperty());
+            watchBackdrop(node.visibleProperty());
+            watchBackdrop(node.opacityProperty());
+            if (node instanceof ScrollPane scrollPane) {
+                watchBackdrop(scrollPane.hvalueProperty());
+                watchBackdrop(scrollPane.vvalueProperty());
+            }
+            if (node instanceof Parent parent) {
+                watchBackdrop(parent.needsLayoutProperty());
+                ObservableList<Node> children = parent.getChildrenUnmodifiable();
+                children.addListener(backdropStructureListener);
+                backdropWatchers.add(() -> children.removeListener(backdropStructureListener));
+                pending.addAll(children);
+            }
+        }
+    }
+
+    private void watchBackdrop(ObservableValue<?> value) {
+        value.addListener(backdropChangeListener);
+        backdropWatchers.add(() -> value.removeListener(backdropChangeListener));
+    }
+
     private void refreshBackdrop() {
+        if (backdropWatchDirty) {
+            rewatchBackdrop();
+        }
+        if (blurInFlight) {
+            blurPending = true;
+            return;
+        }
+
         Node source = backdropSource.get();
-        if (source == null || getScene() == null || getWidth() <= 2 || getHeight() <= 2) {
+        if (source == null || getScene() == null || getWidth() <= 2 || getHeight() <= 2 || isBackdropPaused()) {
             return;
         }
 
@@ -597,24 +721,69 @@ public final class LiquidGlassNavbar extends StackPane {
             return;
         }
 
+        double scale = batterySaver.get() ? BACKDROP_SCALE_BATTERY : BACKDROP_SCALE;
         Rectangle2D viewport = new Rectangle2D(
-            Math.max(0, srcLocal.getMinX()),
-            Math.max(0, srcLocal.getMinY()),
-            Math.max(1, srcLocal.getWidth()),
-            Math.max(1, srcLocal.getHeight())
+            Math.max(0, srcLocal.getMinX()) * scale,
+            Math.max(0, srcLocal.getMinY()) * scale,
+            Math.max(1, srcLocal.getWidth() * scale),
+            Math.max(1, srcLocal.getHeight() * scale)
         );
 
         SnapshotParameters params = new SnapshotParameters();
         params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
         params.setViewport(viewport);
 
         int imageW = Math.max(1, (int) Math.ceil(viewport.getWidth()));
         int imageH = Math.max(1, (int) Math.ceil(viewport.getHeight()));
-        if (cachedBackdrop == null || cachedBackdrop.getWidth() != imageW || cachedBackdrop.getHeight() != imageH) {
-            cachedBackdrop = new WritableImage(imageW, imageH);
+        if (backdropSnapshot == null || backdropSnapshot.getWidth() != imageW || backdropSnapshot.getHeight() != imageH) {
+            backdropSnapshot = new WritableImage(imageW, imageH);
         }
-        source.snapshot(params, cachedBackdrop);
-        backdropView.setImage(cachedBackdrop);
+        source.snapshot(params, backdropSnapshot);
+
+        if (backdropPixels.length < imageW * imageH) {
+            backdropPixels = new int[imageW * imageH];
+        }
+        int[] pixels = backdropPixels;
+        backdropSnapshot.getPixelReader().getPixels(0, 0, imageW, imageH, PixelFormat.getIntArgbPreInstance(), pixels, 0, imageW);
+
+        double sigma = blurRadius.get() / 3.0 * scale;
+        blurInFlight = true;
+        backdropStale = false;
+        BLUR_EXECUTOR.execute(() -> {
+            boolean blurred = false;
+            try {
+                backdropBlur.apply(pixels, imageW, imageH, sigma);
+                blurred = true;
+            } finally {
+                boolean upload = blurred;
+                Platform.runLater(() -> finishBlur(upload, pixels, imageW, imageH));
+            }
+        });
+    }
+
+    private void finishBlur(boolean blurred, int[] pixels, int imageW, int imageH) {
+        try {
+            if (blurred) {
+                uploadBackdrop(pixels, imageW, imageH);
+            } else {
+                backdropStale = true;
+            }
+        } finally {
+            blurInFlight = false;
+        }
+        if (blurPending) {
+            blurPending = false;
+            requestBackdropRefresh();
+        }
+    }
+
+    private void uploadBackdrop(int[] pixels, int imageW, int imageH) {
+        if (blurredBackdrop == null || blurredBackdrop.getWidth() != imageW || blurredBackdrop.getHeight() != imageH) {
+            blurredBackdrop = new WritableImage(imageW, imageH);
+        }
+        blurredBackdrop.getPixelWriter().setPixels(0, 0, imageW, imageH, PixelFormat.getIntArgbPreInstance(), pixels, 0, imageW);
+        backdropView.setImage(blurredBackdrop);
     }
 
     private void onMouseMoved(MouseEvent event) {
@@ -623,6 +792,45 @@ public final class LiquidGlassNavbar extends StackPane {
         updateLiquidTarget(x, y);
     }
 
+    private boolean isReducedMotion() {
+        return batterySaver.get() || AnimationBudget.global().getQuality() != AnimationBudget.Quality.FULL;
+    }
+
+    private void onAnimationQualityChanged() {
+        updateShimmer();
+        updateLiquidTarget(currentHighlightX, currentHighlightY);
+    }
+
+    private void updateShimmer() {
+        if (enableShimmer.get() && !isReducedMotion()) {
+            if (shimmerTimeline.getStatus() != Animation.Status.RUNNING) {
+                shimmerTimeline.play();
+            }
+        } else {
+            shimmerTimeline.stop();
+            shimmer.setOpacity(0.0);
+        }
+    }
+
+    private void stepLiquidHighlight() {
+        currentHighlightX = lerp(currentHighlightX, targetHighlightX, 0.22);
+        currentHighlightY = lerp(currentHighlightY, targetHighlightY, 0.22);
+        if (Math.abs(currentHighlightX - targetHighlightX) < 0.5 && Math.abs(currentHighlightY - targetHighlightY) < 0.5) {
+            currentHighlightX = targetHighlightX;
+            currentHighlightY = targetHighlightY;
+            liquidFollowTimeline.stop();
+        }
+        liquidLayer.setFill(new RadialGradient(
+            0, 0,
+            currentHighlightX, currentHighlightY, Math.max(150, getWidth() * 0.45),
+            false, CycleMethod.NO_CYCLE,
+            new Stop(0.0, Color.rgb(255, 255, 255, highContrastMode.get() ? 0.16 : 0.22 * clamp(highlightStrength.get(), 0, 1))),
+            new Stop(0.55, Color.rgb(255, 255, 255, highContrastMode.get() ? 0.05 : 0.08 * clamp(highlightStrength.get(), 0, 1))),
+            new Stop(1.0, Color.rgb(255, 255, 255, 0.00))
+        ));
+        borderLayer.setFill(Color.TRANSPARENT);
+    }
+
     private void updateLiquidTarget(double x, double y) {
         if (getWidth() <= 0 || getHeight() <= 0) {
             return;
@@ -640,6 +848,14 @@ public final class LiquidGlassNavbar extends StackPane {
             new Stop(1.0, Color.rgb(255, 255, 255, 0.0))
         );
         liquidLayer.setFill(fill);
+
+        if (AnimationBudget.global().getQuality() == AnimationBudget.Quality.MINIMAL) {
+            liquidFollowTimeline.stop();
+            currentHighlightX = targetHighlightX;
+            currentHighlightY = targetHighlightY;
+        } else if (liquidFollowTimeline.getStatus() != Animation.Status.RUNNING) {
+            liquidFollowTimeline.play();
+        }
     }
 
     private void select(String id, boolean fireEvent) {
@@ -672,7 +888,8 @@ public final class LiquidGlassNavbar extends StackPane {
         targetIndicatorX = b.getMinX() - 1.0;
         targetIndicatorWidth = b.getWidth() + 2.0;
 
-        if (!animated) {
+        if (!animated || !AnimationBudget.global().admit()) {
+            indicatorTimeline.stop();
             indicator.setX(targetIndicatorX);
             indicator.setWidth(targetIndicatorWidth);
             return;
@@ -1,5 +1,7 @@
 package com.aniflow.demo;
 
+import com.aniflow.util.AnimationBudget;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -88,10 +90,18 @@ public final class Main extends Application {
         contrastToggle.setTextFill(Color.WHITE);
         contrastToggle.selectedProperty().addListener((obs, oldV, enabled) -> navbar.setHighContrastMode(enabled));
 
+        CheckBox batteryToggle = new CheckBox("Battery Saver");
+        batteryToggle.setSelected(false);
+        batteryToggle.setTextFill(Color.WHITE);
+        batteryToggle.selectedProperty().addListener((obs, oldV, enabled) -> {
+            navbar.setBatterySaver(enabled);
+            AnimationBudget.global().setBatteryMode(enabled);
+        });
+
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        HBox controlBar = new HBox(12, shimmerToggle, contrastToggle, spacer);
+        HBox controlBar = new HBox(12, shimmerToggle, contrastToggle, batteryToggle, spacer);
         controlBar.setAlignment(Pos.CENTER_LEFT);
         controlBar.setPadding(new Insets(0, 24, 24, 24));
         StackPane.setAlignment(controlBar, Pos.BOTTOM_LEFT);
@@ -104,6 +114,7 @@ public final class Main extends Application {
         navbar.minWidthProperty().set(320);
 
         Scene scene = new Scene(root, 1100, 720);
+        AnimationBudget.global().attach(scene);
         stage.setTitle("Liquid Glass Navbar Demo");
         stage.setScene(scene);
         stage.show();
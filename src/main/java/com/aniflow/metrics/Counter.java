@@ -0,0 +1,19 @@
+package com.aniflow.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
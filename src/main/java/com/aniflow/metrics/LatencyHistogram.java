@@ -0,0 +1,94 @@
+package com.aniflow.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+    private static final long MAX_TRACKABLE_MICROS = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordSince(long startNanos) {
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.min(Math.max(0, micros), MAX_TRACKABLE_MICROS);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        totalMicros.add(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = buckets.get(i);
+            total += copy[i];
+        }
+        if (total == 0) {
+            return Snapshot.EMPTY;
+        }
+
+        double meanMs = totalMicros.sum() / 1000.0 / total;
+        return new Snapshot(
+            total,
+            meanMs,
+            percentileMs(copy, total, 0.50),
+            percentileMs(copy, total, 0.90),
+            percentileMs(copy, total, 0.99),
+            maxMicros.get() / 1000.0
+        );
+    }
+
+    private double percentileMs(long[] counts, long total, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(midpointOf(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return maxMicros.get() / 1000.0;
+    }
+
+    private static int indexOf(long micros) {
+        int msb = 63 - Long.numberOfLeadingZeros(micros | 1);
+        if (msb < SUB_BUCKET_BITS) {
+            return (int) micros;
+        }
+        int shift = msb - SUB_BUCKET_BITS + 1;
+        return shift * SUB_BUCKET_HALF + (int) (micros >>> shift);
+    }
+
+    private static long midpointOf(int index) {
+        if (index < 2 * SUB_BUCKET_HALF) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long lower = (long) (index - shift * SUB_BUCKET_HALF) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+    public record Snapshot(long count, double meanMs, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.aniflow.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsExporter {
+    private static final long EXPORT_INTERVAL_SEC = Long.getLong("aniflow.metrics.intervalSec", 30);
+    private static final int ENDPOINT_PORT = Integer.getInteger("aniflow.metrics.port", 0);
+
+    private final MetricsRegistry registry;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path metricsFile = Path.of(System.getProperty("user.home"), ".aniflow", "metrics.json");
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aniflow-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private HttpServer server;
+
+    public MetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::exportToFile, EXPORT_INTERVAL_SEC, EXPORT_INTERVAL_SEC, TimeUnit.SECONDS);
+        if (ENDPOINT_PORT > 0) {
+            startEndpoint();
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+        }
+        exportToFile();
+    }
+
+    private void startEndpoint() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), ENDPOINT_PORT), 0);
+            server.createContext("/metrics", this::handle);
+            server.setExecutor(scheduler);
+            server.start();
+            System.out.println("[AniFlow Metrics] http://127.0.0.1:" + ENDPOINT_PORT + "/metrics");
+        } catch (IOException ex) {
+            System.err.println("[AniFlow Metrics] endpoint disabled: " + ex.getMessage());
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            boolean json = exchange.getRequestURI().getPath().endsWith(".json");
+            byte[] body = json
+                ? mapper.writeValueAsBytes(registry.snapshot())
+                : toPrometheusText(registry.snapshot()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", json ? "application/json" : "text/plain; version=0.0.4");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void exportToFile() {
+        try {
+            Files.createDirectories(metricsFile.getParent());
+            Path temp = metricsFile.resolveSibling(metricsFile.getFileName() + ".tmp");
+            mapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), registry.snapshot());
+            try {
+                Files.move(temp, metricsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(temp, metricsFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            System.err.println("[AniFlow Metrics] export failed: " + ex.getMessage());
+        }
+    }
+
+    static String toPrometheusText(MetricsRegistry.Snapshot snapshot) {
+        StringBuilder out = new StringBuilder();
+        snapshot.counters().forEach((name, value) -> line(out, name, "_total", null, value));
+        snapshot.gauges().forEach((name, value) -> line(out, name, "", null, value));
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot.histograms().entrySet()) {
+            LatencyHistogram.Snapshot histogram = entry.getValue();
+            line(out, entry.getKey(), "_ms", "quantile=\"0.5\"", histogram.p50Ms());
+            line(out, entry.getKey(), "_ms", "quantile=\"0.9\"", histogram.p90Ms());
+            line(out, entry.getKey(), "_ms", "quantile=\"0.99\"", histogram.p99Ms());
+            line(out, entry.getKey(), "_ms_max", null, histogram.maxMs());
+            line(out, entry.getKey(), "_ms_count", null, histogram.count());
+        }
+        return out.toString();
+    }
+
+    private static void line(StringBuilder out, String name, String suffix, String extraLabel, Number value) {
+        String base = name;
+        String labels = "";
+        int brace = name.indexOf('{');
+        if (brace > 0 && name.endsWith("}")) {
+            base = name.substring(0, brace);
+            String[] tag = name.substring(brace + 1, name.length() - 1).split("=", 2);
+            labels = tag.length == 2 ? tag[0] + "=\"" + tag[1].replace("\"", "'") + '"' : "";
+        }
+        if (extraLabel != null) {
+            labels = labels.isEmpty() ? extraLabel : labels + ',' + extraLabel;
+        }
+
+        out.append("aniflow_").append(base.replaceAll("[^a-zA-Z0-9_]", "_")).append(suffix);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value instanceof Double d ? String.format(Locale.ROOT, "%.4f", d) : value).append('\n');
+    }
+}
@@ -0,0 +1,77 @@
+package com.aniflow.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.DoubleSupplier;
+
+public final class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public static String tagged(String name, String tagKey, String tagValue) {
+        return name + '{' + tagKey + '=' + tagValue + '}';
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, ignored -> new Counter());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, ignored -> new LatencyHistogram());
+    }
+
+    public void gauge(String name, DoubleSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    public void registerCache(String name, Cache<?, ?> cache) {
+        gauge(tagged("cache.hit_ratio", "cache", name), () -> cache.stats().hitRate());
+        gauge(tagged("cache.requests", "cache", name), () -> cache.stats().requestCount());
+        gauge(tagged("cache.evictions", "cache", name), () -> cache.stats().evictionCount());
+        gauge(tagged("cache.size", "cache", name), cache::estimatedSize);
+    }
+
+    public void registerExecutor(String name, ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            gauge(tagged("executor.queue_depth", "executor", name), () -> pool.getQueue().size());
+            gauge(tagged("executor.active", "executor", name), pool::getActiveCount);
+            gauge(tagged("executor.completed", "executor", name), pool::getCompletedTaskCount);
+        }
+    }
+
+    public Snapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.get()));
+
+        Map<String, LatencyHistogram.Snapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+
+        Map<String, Double> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, supplier) -> {
+            try {
+                gaugeValues.put(name, supplier.getAsDouble());
+            } catch (RuntimeException ignored) {
+            }
+        });
+
+        return new Snapshot(System.currentTimeMillis(), counterValues, histogramValues, gaugeValues);
+    }
+
+    public record Snapshot(long takenAtMs,
+                           Map<String, Long> counters,
+                           Map<String, LatencyHistogram.Snapshot> histograms,
+                           Map<String, Double> gauges) {
+    }
+}
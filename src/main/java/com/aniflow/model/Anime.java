@@ -2,6 +2,7 @@ package com.aniflow.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 public class Anime {
@@ -22,6 +23,10 @@ public class Anime {
     private final String episodeLabel;
     private final String releaseInfo;
     private final String studio;
+    private final List<String> normalizedGenres;
+    private final String normalizedStatus;
+    private final long genreMask;
+    private final boolean unindexedGenres;
 
     public Anime(int id,
                  String title,
@@ -82,13 +87,31 @@ public class Anime {
         this.status = status;
         this.score = score;
         this.scoreText = scoreText;
-        this.genres = genres == null ? new ArrayList<>() : new ArrayList<>(genres);
+        this.genres = genres == null ? List.of() : genres.stream().filter(Objects::nonNull).toList();
         this.streamUrl = streamUrl;
         this.nextAiringEpisode = nextAiringEpisode;
         this.detailEndpoint = detailEndpoint;
         this.episodeLabel = episodeLabel;
         this.releaseInfo = releaseInfo;
         this.studio = studio;
+
+        List<String> folded = new ArrayList<>(this.genres.size());
+        long mask = 0L;
+        boolean unindexed = false;
+        for (String genre : this.genres) {
+            if (genre.isBlank()) {
+                continue;
+            }
+            String normalized = GenreDictionary.normalize(genre);
+            long bit = GenreDictionary.bitOf(normalized);
+            folded.add(normalized);
+            mask |= bit;
+            unindexed |= bit == 0L;
+        }
+        this.normalizedGenres = List.copyOf(folded);
+        this.normalizedStatus = status == null ? "" : status.trim().toLowerCase(Locale.ROOT).intern();
+        this.genreMask = mask;
+        this.unindexedGenres = unindexed;
     }
 
     public int getId() {
@@ -132,7 +155,23 @@ public class Anime {
     }
 
     public List<String> getGenres() {
-        return new ArrayList<>(genres);
+        return genres;
+    }
+
+    public List<String> getNormalizedGenres() {
+        return normalizedGenres;
+    }
+
+    public String getNormalizedStatus() {
+        return normalizedStatus;
+    }
+
+    public long getGenreMask() {
+        return genreMask;
+    }
+
+    public boolean hasUnindexedGenres() {
+        return unindexedGenres;
     }
 
     public String getStreamUrl() {
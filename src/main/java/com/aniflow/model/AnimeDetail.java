@@ -1,17 +1,24 @@
 package com.aniflow.model;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class AnimeDetail {
     private final Anime anime;
     private final List<EpisodeInfo> episodeList;
     private final List<Anime> relatedAnime;
+    private final int latestEpisodeNumber;
 
     public AnimeDetail(Anime anime, List<EpisodeInfo> episodeList, List<Anime> relatedAnime) {
         this.anime = anime;
-        this.episodeList = episodeList == null ? new ArrayList<>() : new ArrayList<>(episodeList);
-        this.relatedAnime = relatedAnime == null ? new ArrayList<>() : new ArrayList<>(relatedAnime);
+        this.episodeList = episodeList == null ? List.of() : episodeList.stream().filter(Objects::nonNull).toList();
+        this.relatedAnime = relatedAnime == null ? List.of() : relatedAnime.stream().filter(Objects::nonNull).toList();
+
+        int latest = this.episodeList.isEmpty() ? 0 : Integer.MIN_VALUE;
+        for (EpisodeInfo episode : this.episodeList) {
+            latest = Math.max(latest, episode.getEpisodeNumber());
+        }
+        this.latestEpisodeNumber = latest;
     }
 
     public Anime getAnime() {
@@ -19,17 +26,14 @@ public class AnimeDetail {
     }
 
     public List<EpisodeInfo> getEpisodeList() {
-        return new ArrayList<>(episodeList);
+        return episodeList;
     }
 
     public List<Anime> getRelatedAnime() {
-        return new ArrayList<>(relatedAnime);
+        return relatedAnime;
     }
 
     public int latestEpisodeNumber() {
-        return episodeList.stream()
-            .map(EpisodeInfo::getEpisodeNumber)
-            .max(Integer::compareTo)
-            .orElse(0);
+        return latestEpisodeNumber;
     }
 }
@@ -1,9 +1,10 @@
 package com.aniflow.model;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class EpisodeStream {
     private final String title;
@@ -23,8 +24,8 @@ public class EpisodeStream {
                          String animeSlug) {
         this.title = title;
         this.episodeSlug = episodeSlug;
-        this.streamingUrls = streamingUrls == null ? new ArrayList<>() : new ArrayList<>(streamingUrls);
-        this.downloadUrls = downloadUrls == null ? Collections.emptyMap() : downloadUrls;
+        this.streamingUrls = copyUrls(streamingUrls);
+        this.downloadUrls = copyDownloadUrls(downloadUrls);
         this.prevEpisodeSlug = prevEpisodeSlug;
         this.nextEpisodeSlug = nextEpisodeSlug;
         this.animeSlug = animeSlug;
@@ -39,7 +40,7 @@ public class EpisodeStream {
     }
 
     public List<String> getStreamingUrls() {
-        return new ArrayList<>(streamingUrls);
+        return streamingUrls;
     }
 
     public Map<String, List<String>> getDownloadUrls() {
@@ -70,4 +71,17 @@ public class EpisodeStream {
         }
         return null;
     }
+
+    private static Map<String, List<String>> copyDownloadUrls(Map<String, List<String>> downloadUrls) {
+        if (downloadUrls == null || downloadUrls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        downloadUrls.forEach((quality, urls) -> copy.put(quality, copyUrls(urls)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static List<String> copyUrls(List<String> urls) {
+        return urls == null ? List.of() : urls.stream().filter(Objects::nonNull).toList();
+    }
 }
@@ -0,0 +1,55 @@
+package com.aniflow.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class GenreDictionary {
+    public static final int MASK_BITS = Long.SIZE;
+
+    private static final List<String> NAMES = List.of(
+        "action", "adventure", "comedy", "demons", "drama", "ecchi", "fantasy", "game",
+        "harem", "historical", "horror", "isekai", "josei", "kids", "magic", "martial arts",
+        "mecha", "military", "music", "mystery", "parody", "police", "psychological", "reverse harem",
+        "romance", "samurai", "school", "sci-fi", "seinen", "shoujo", "shoujo ai", "shounen",
+        "shounen ai", "slice of life", "space", "sports", "super power", "supernatural", "thriller", "vampire"
+    );
+    private static final Map<String, Integer> INDEX_BY_NAME = new HashMap<>();
+
+    static {
+        if (NAMES.size() > MASK_BITS) {
+            throw new IllegalStateException("Genre table exceeds " + MASK_BITS + " bits");
+        }
+        for (int i = 0; i < NAMES.size(); i++) {
+            INDEX_BY_NAME.put(NAMES.get(i), i);
+        }
+    }
+
+    private GenreDictionary() {
+    }
+
+    public static String normalize(String genre) {
+        return genre == null ? "" : genre.trim().toLowerCase(Locale.ROOT).intern();
+    }
+
+    public static long bitOf(String genre) {
+        Integer index = INDEX_BY_NAME.get(normalize(genre));
+        return index == null ? 0L : 1L << index;
+    }
+
+    public static long maskContaining(String term) {
+        String match = normalize(term);
+        long mask = 0L;
+        for (int i = 0; i < NAMES.size(); i++) {
+            if (NAMES.get(i).contains(match)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public static int size() {
+        return NAMES.size();
+    }
+}
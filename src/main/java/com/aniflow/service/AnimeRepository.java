@@ -1,27 +1,49 @@
 package com.aniflow.service;
 
 import com.aniflow.app.AppState;
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.LatencyHistogram;
+import com.aniflow.metrics.MetricsRegistry;
 import com.aniflow.model.Anime;
 import com.aniflow.model.AnimeDetail;
 import com.aniflow.model.EpisodeInfo;
 import com.aniflow.model.EpisodeStream;
 import com.aniflow.model.Genre;
+import com.aniflow.model.GenreDictionary;
 import com.aniflow.model.SearchFilter;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class AnimeRepository {
+    private static final Counter OFFLINE_FALLBACKS = MetricsRegistry.global().counter("repository.offline_fallbacks");
+    private static final Counter IGNORED_ERRORS = MetricsRegistry.global().counter("repository.ignored_errors");
+    private static final Counter SUBSUMED_SEARCHES = MetricsRegistry.global().counter("search.subsumed_hits");
+    private static final int LOCAL_STREAM_LIMIT = 60;
+    private static final LatencyHistogram LOCAL_SEARCH_LATENCY = MetricsRegistry.global().histogram("search.local");
+    private static final Map<String, Set<String>> STATUS_ALIASES = Map.of(
+        "ongoing", Set.of("ongoing", "releasing", "currently releasing", "currently airing", "airing"),
+        "finished", Set.of("finished", "completed", "complete", "finished airing"),
+        "upcoming", Set.of("upcoming", "not yet released", "not yet aired")
+    );
+
     private final OtakudesuApiService apiService;
     private final AppState appState;
     private final ExecutorService executor;
@@ -31,6 +53,8 @@ public class AnimeRepository {
     private final Cache<String, AnimeDetail> detailCache;
     private final Cache<String, List<EpisodeInfo>> episodeCache;
     private final Cache<String, List<Genre>> genreCache;
+    private final CatalogIndex catalogIndex = new CatalogIndex();
+    private final AtomicLong searchTokens = new AtomicLong();
 
     public AnimeRepository(OtakudesuApiService apiService, AppState appState) {
         this.apiService = apiService;
@@ -40,27 +64,41 @@ public class AnimeRepository {
         this.homeCache = Caffeine.newBuilder()
             .maximumSize(40)
             .expireAfterWrite(Duration.ofHours(1))
+            .recordStats()
             .build();
 
         this.searchCache = Caffeine.newBuilder()
             .maximumSize(160)
             .expireAfterWrite(Duration.ofMinutes(30))
+            .recordStats()
             .build();
 
         this.detailCache = Caffeine.newBuilder()
             .maximumSize(300)
             .expireAfterWrite(Duration.ofHours(24))
+            .recordStats()
             .build();
 
         this.episodeCache = Caffeine.newBuilder()
             .maximumSize(300)
             .expireAfterWrite(Duration.ofHours(24))
+            .recordStats()
             .build();
 
         this.genreCache = Caffeine.newBuilder()
             .maximumSize(5)
             .expireAfterWrite(Duration.ofHours(24))
+            .recordStats()
             .build();
+
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.registerExecutor("repository", executor);
+        metrics.registerCache("home", homeCache);
+        metrics.registerCache("search", searchCache);
+        metrics.registerCache("detail", detailCache);
+        metrics.registerCache("episode", episodeCache);
+        metrics.registerCache("genre", genreCache);
+        metrics.gauge("catalog.size", catalogIndex::size);
     }
 
     public CompletableFuture<List<Anime>> getTrending() {
@@ -99,45 +137,143 @@ public class AnimeRepository {
     }
 
     public CompletableFuture<List<Anime>> search(String keyword, SearchFilter filter) {
+        SearchQuery query = SearchQuery.of(keyword, filter);
+        List<Anime> cached = cachedSearch(query);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<List<Anime>> call;
+        if (query.hasText()) {
+            call = apiService.searchAnimeAsync(query.text());
+        } else if (query.hasGenre()) {
+            call = apiService.fetchByGenreAsync(slugify(query.genre()));
+        } else {
+            call = apiService.fetchOngoingAsync();
+        }
+
+        CompletableFuture<List<Anime>> result = call.handle((base, error) -> {
+            if (error != null) {
+                if (error instanceof CancellationException || error.getCause() instanceof CancellationException) {
+                    throw new CancellationException("Search cancelled: " + query.key());
+                }
+                setOffline(true);
+                return Collections.<Anime>emptyList();
+            }
+            List<Anime> fetched = List.copyOf(base);
+            searchCache.put(query.baseKey(), fetched);
+            catalogIndex.addAll(fetched);
+            setOffline(false);
+            List<Anime> refined = List.copyOf(query.refine(fetched));
+            searchCache.put(query.key(), refined);
+            return refined;
+        });
+        result.whenComplete((list, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public SearchStream streamSearch(String keyword, SearchFilter filter, Duration networkDelay, Consumer<SearchStream.Batch> sink) {
         String safeQuery = keyword == null ? "" : keyword.trim();
         SearchFilter safeFilter = filter == null ? SearchFilter.empty() : filter;
+        SearchStream stream = new SearchStream(searchTokens.incrementAndGet(), sink);
 
-        String key = "search:"
-            + safeQuery.toLowerCase(Locale.ROOT) + ':'
-            + safeFilter.genre() + ':'
-            + safeFilter.season() + ':'
-            + safeFilter.status();
-
-        return loadListWithFallback(key, () -> {
-            List<Anime> base;
-            String genre = safeFilter.genre();
-
-            if (!safeQuery.isBlank()) {
-                base = apiService.searchAnime(safeQuery);
-                if (genre != null && !"All".equalsIgnoreCase(genre)) {
-                    String genreMatch = genre.toLowerCase(Locale.ROOT);
-                    base = base.stream()
-                        .filter(a -> a.getGenres().stream().anyMatch(g -> g.equalsIgnoreCase(genreMatch) || g.toLowerCase(Locale.ROOT).contains(genreMatch)))
-                        .collect(Collectors.toList());
-                }
-            } else if (genre != null && !"All".equalsIgnoreCase(genre)) {
-                base = apiService.fetchByGenre(slugify(genre));
-            } else {
-                base = apiService.fetchOngoing();
+        if (!safeQuery.isBlank()) {
+            stream.emit(searchLocal(safeQuery, safeFilter, LOCAL_STREAM_LIMIT), SearchStream.Source.LOCAL, false);
+        }
+
+        List<Anime> cached = cachedSearch(SearchQuery.of(safeQuery, safeFilter));
+        if (cached != null) {
+            stream.emit(cached, SearchStream.Source.CACHE, true);
+            return stream;
+        }
+
+        Runnable network = () -> {
+            if (stream.isCancelled()) {
+                return;
+            }
+            CompletableFuture<List<Anime>> request = search(safeQuery, safeFilter);
+            stream.attach(request);
+            request.whenComplete((list, error) -> stream.emit(list, SearchStream.Source.NETWORK, true));
+        };
+        long delayMs = networkDelay == null ? 0 : Math.max(0, networkDelay.toMillis());
+        if (delayMs == 0) {
+            network.run();
+        } else {
+            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, executor).execute(network);
+        }
+        return stream;
+    }
+
+    private List<Anime> cachedSearch(SearchQuery query) {
+        List<Anime> exact = searchCache.getIfPresent(query.key());
+        if (exact != null) {
+            return exact;
+        }
+
+        List<Anime> base = searchCache.getIfPresent(query.baseKey());
+        if (base == null) {
+            return null;
+        }
+        List<Anime> refined = List.copyOf(query.refine(base));
+        searchCache.put(query.key(), refined);
+        SUBSUMED_SEARCHES.increment();
+        return refined;
+    }
+
+    public static List<Anime> filterByGenre(List<Anime> base, String genre) {
+        if (genre == null || "All".equalsIgnoreCase(genre)) {
+            return base;
+        }
+        String genreMatch = GenreDictionary.normalize(genre);
+        long mask = GenreDictionary.maskContaining(genreMatch);
+        List<Anime> matched = new ArrayList<>();
+        for (Anime anime : base) {
+            if ((anime.getGenreMask() & mask) != 0L || (anime.hasUnindexedGenres() && hasGenreContaining(anime, genreMatch))) {
+                matched.add(anime);
             }
+        }
+        return matched;
+    }
 
-            String status = safeFilter.status();
-            if (status != null && !status.isBlank() && !"Any".equalsIgnoreCase(status)) {
-                String statusMatch = status.toLowerCase(Locale.ROOT);
-                base = base.stream()
-                    .filter(a -> a.getStatus().toLowerCase(Locale.ROOT).contains(statusMatch)
-                        || ("ongoing".equals(statusMatch) && a.getStatus().toLowerCase(Locale.ROOT).contains("releas"))
-                        || ("finished".equals(statusMatch) && a.getStatus().toLowerCase(Locale.ROOT).contains("complete")))
-                    .collect(Collectors.toList());
+    private static boolean hasGenreContaining(Anime anime, String genreMatch) {
+        for (String candidate : anime.getNormalizedGenres()) {
+            if (candidate.contains(genreMatch)) {
+                return true;
             }
+        }
+        return false;
+    }
 
+    public static List<Anime> filterByStatus(List<Anime> base, String status) {
+        if (status == null || status.isBlank() || "Any".equalsIgnoreCase(status)) {
             return base;
-        }, searchCache);
+        }
+        String statusMatch = status.trim().toLowerCase(Locale.ROOT);
+        Set<String> accepted = STATUS_ALIASES.getOrDefault(statusMatch, Set.of(statusMatch));
+        List<Anime> matched = new ArrayList<>();
+        for (Anime anime : base) {
+            if (accepted.contains(anime.getNormalizedStatus())) {
+                matched.add(anime);
+            }
+        }
+        return matched;
+    }
+
+    public List<Anime> searchLocal(String keyword, SearchFilter filter, int limit) {
+        long startNs = System.nanoTime();
+        try {
+            return catalogIndex.search(keyword, filter, limit);
+        } finally {
+            LOCAL_SEARCH_LATENCY.recordSince(startNs);
+        }
+    }
+
+    public void indexCatalog(Collection<Anime> items) {
+        catalogIndex.addAll(items);
     }
 
     public CompletableFuture<AnimeDetail> getAnimeDetail(String slug) {
@@ -153,6 +289,8 @@ public class AnimeRepository {
                 AnimeDetail merged = new AnimeDetail(detail.getAnime(), detail.getEpisodeList(), related);
                 detailCache.put(slug, merged);
                 episodeCache.put(slug, merged.getEpisodeList());
+                catalogIndex.add(detail.getAnime());
+                catalogIndex.addAll(related);
                 setOffline(false);
                 return merged;
             } catch (Exception ex) {
@@ -165,6 +303,33 @@ public class AnimeRepository {
         }, executor);
     }
 
+    public CompletableFuture<AnimeDetail> refreshEpisodeDetail(String slug) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                AnimeDetail detail = apiService.fetchAnimeDetail(slug);
+                AnimeDetail cached = detailCache.getIfPresent(slug);
+                if (cached != null) {
+                    detailCache.put(slug, new AnimeDetail(detail.getAnime(), detail.getEpisodeList(), cached.getRelatedAnime()));
+                }
+                episodeCache.put(slug, detail.getEpisodeList());
+                catalogIndex.add(detail.getAnime());
+                setOffline(false);
+                return detail;
+            } catch (Exception ex) {
+                setOffline(true);
+                throw new IllegalStateException("Detail refresh failed for slug: " + slug, ex);
+            }
+        }, executor);
+    }
+
+    public void invalidateDetail(String slug) {
+        if (slug == null || slug.isBlank()) {
+            return;
+        }
+        detailCache.invalidate(slug);
+        episodeCache.invalidate(slug);
+    }
+
     public CompletableFuture<List<EpisodeInfo>> getEpisodeList(String slug) {
         List<EpisodeInfo> cached = episodeCache.getIfPresent(slug);
         if (cached != null) {
@@ -215,6 +380,7 @@ public class AnimeRepository {
             try {
                 apiService.fetchEpisodeStream(episodeSlug);
             } catch (Exception ignored) {
+                IGNORED_ERRORS.increment();
             }
         }, executor);
     }
@@ -225,6 +391,7 @@ public class AnimeRepository {
                 List<Anime> ongoing = apiService.fetchOngoing();
                 homeCache.put("home:ongoing-sync", ongoing);
                 homeCache.put("home:trending", ongoing);
+                catalogIndex.addAll(ongoing);
 
                 List<Anime> recommendationSeed = new ArrayList<>(ongoing);
                 Collections.shuffle(recommendationSeed);
@@ -267,6 +434,7 @@ public class AnimeRepository {
                 .limit(8)
                 .collect(Collectors.toList());
         } catch (Exception ignored) {
+            IGNORED_ERRORS.increment();
             return Collections.emptyList();
         }
     }
@@ -286,6 +454,7 @@ public class AnimeRepository {
                 List<Anime> fresh = loader.load();
                 List<Anime> result = fresh == null ? Collections.emptyList() : new ArrayList<>(fresh);
                 cache.put(key, result);
+                catalogIndex.addAll(result);
                 setOffline(false);
                 return result;
             } catch (Exception ex) {
@@ -296,6 +465,9 @@ public class AnimeRepository {
     }
 
     private void setOffline(boolean offline) {
+        if (offline) {
+            OFFLINE_FALLBACKS.increment();
+        }
         if (appState != null) {
             appState.setOfflineMode(offline);
         }
@@ -0,0 +1,380 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class CatalogIndex {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^a-z0-9]+");
+    private static final List<String> SLUG_NOISE = List.of("sub", "indo", "subtitle", "indonesia");
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float ALT_TITLE_WEIGHT = 2.0f;
+    private static final float GENRE_WEIGHT = 1.5f;
+    private static final float META_WEIGHT = 1.0f;
+
+    private static final float BM25_K1 = 1.2f;
+    private static final float BM25_B = 0.75f;
+    private static final float PREFIX_FACTOR = 0.8f;
+    private static final float ONE_EDIT_FACTOR = 0.6f;
+    private static final float TWO_EDIT_FACTOR = 0.4f;
+    private static final float SCORE_BOOST = 0.04f;
+    private static final float ONGOING_BOOST = 1.1f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TWO_EDIT_MIN_LENGTH = 8;
+
+    private static final int ALPHABET = 37;
+    private static final int TRIGRAM_SPACE = ALPHABET * ALPHABET * ALPHABET;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> docIdBySlug = new HashMap<>();
+    private final List<Anime> documents = new ArrayList<>();
+    private final List<int[]> docTerms = new ArrayList<>();
+    private float[] docLengths = new float[64];
+    private double totalDocLength;
+    private int liveDocuments;
+
+    private final NavigableMap<String, Integer> vocabulary = new TreeMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<PostingList> termPostings = new ArrayList<>();
+    private final PostingList[] trigramPostings = new PostingList[TRIGRAM_SPACE];
+
+    public void addAll(Collection<Anime> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            items.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(Anime anime) {
+        if (anime == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            addLocked(anime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Anime> search(String query, SearchFilter filter, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Anime> ranked;
+        lock.readLock().lock();
+        try {
+            ranked = rankLocked(queryTerms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        SearchFilter safeFilter = filter == null ? SearchFilter.empty() : filter;
+        List<Anime> filtered = AnimeRepository.filterByStatus(AnimeRepository.filterByGenre(ranked, safeFilter.genre()), safeFilter.status());
+        return filtered.size() > limit ? List.copyOf(filtered.subList(0, limit)) : filtered;
+    }
+
+    private List<Anime> rankLocked(List<String> queryTerms) {
+        int docCount = documents.size();
+        if (liveDocuments == 0) {
+            return List.of();
+        }
+
+        float[] totals = new float[docCount];
+        int[] matchedTerms = new int[docCount];
+        float[] termBest = new float[docCount];
+        int[] touched = new int[docCount];
+        float avgDocLength = (float) (totalDocLength / liveDocuments);
+
+        for (int q = 0; q < queryTerms.size(); q++) {
+            String term = queryTerms.get(q);
+            boolean last = q == queryTerms.size() - 1;
+            int touchedCount = 0;
+
+            for (Candidate candidate : expand(term, last)) {
+                PostingList postings = termPostings.get(candidate.termId());
+                float idf = idf(postings.size());
+                for (int i = 0; i < postings.size(); i++) {
+                    int doc = postings.id(i);
+                    float tf = postings.weight(i);
+                    float norm = tf + BM25_K1 * (1 - BM25_B + BM25_B * docLengths[doc] / avgDocLength);
+                    float score = candidate.factor() * idf * tf * (BM25_K1 + 1) / norm;
+                    if (termBest[doc] == 0) {
+                        touched[touchedCount++] = doc;
+                    }
+                    termBest[doc] = Math.max(termBest[doc], score);
+                }
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                int doc = touched[i];
+                totals[doc] += termBest[doc];
+                matchedTerms[doc]++;
+                termBest[doc] = 0;
+            }
+        }
+
+        int required = queryTerms.size();
+        List<Integer> hits = new ArrayList<>();
+        for (int doc = 0; doc < docCount; doc++) {
+            if (matchedTerms[doc] == required && documents.get(doc) != null) {
+                Anime anime = documents.get(doc);
+                totals[doc] *= 1 + SCORE_BOOST * (float) Math.max(0, Math.min(10, anime.getScore()));
+                if (isOngoing(anime)) {
+                    totals[doc] *= ONGOING_BOOST;
+                }
+                hits.add(doc);
+            }
+        }
+
+        hits.sort((a, b) -> Float.compare(totals[b], totals[a]));
+        List<Anime> ranked = new ArrayList<>(hits.size());
+        hits.forEach(doc -> ranked.add(documents.get(doc)));
+        return ranked;
+    }
+
+    private List<Candidate> expand(String term, boolean allowPrefix) {
+        List<Candidate> candidates = new ArrayList<>();
+        Integer exact = vocabulary.get(term);
+        if (exact != null) {
+            candidates.add(new Candidate(exact, 1.0f));
+        }
+
+        if (allowPrefix) {
+            int expansions = 0;
+            for (Map.Entry<String, Integer> entry : vocabulary.tailMap(term, false).entrySet()) {
+                if (!entry.getKey().startsWith(term) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                candidates.add(new Candidate(entry.getValue(), PREFIX_FACTOR));
+            }
+        }
+
+        if (candidates.isEmpty() && term.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = term.length() >= TWO_EDIT_MIN_LENGTH ? 2 : 1;
+            int[] shared = new int[terms.size()];
+            int[] grams = trigrams(term);
+            List<Integer> touchedTerms = new ArrayList<>();
+            for (int gram : grams) {
+                PostingList postings = trigramPostings[gram];
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size(); i++) {
+                    int termId = postings.id(i);
+                    if (shared[termId]++ == 0) {
+                        touchedTerms.add(termId);
+                    }
+                }
+            }
+
+            int minShared = Math.max(1, grams.length - 4 * maxEdits);
+            for (int termId : touchedTerms) {
+                if (shared[termId] < minShared) {
+                    continue;
+                }
+                String other = terms.get(termId);
+                int distance = boundedEditDistance(term, other, maxEdits);
+                if (distance <= maxEdits && termPostings.get(termId).size() > 0) {
+                    candidates.add(new Candidate(termId, distance <= 1 ? ONE_EDIT_FACTOR : TWO_EDIT_FACTOR));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void addLocked(Anime anime) {
+        String slug = anime.getSlug();
+        if (slug == null || slug.isBlank()) {
+            return;
+        }
+
+        Map<String, Float> weighted = new LinkedHashMap<>();
+        addTerms(weighted, anime.getTitle(), TITLE_WEIGHT);
+        List<String> slugTerms = tokenize(slug.replace('-', ' '));
+        slugTerms.removeAll(SLUG_NOISE);
+        slugTerms.forEach(term -> weighted.merge(term, ALT_TITLE_WEIGHT, Float::sum));
+        anime.getGenres().forEach(genre -> addTerms(weighted, genre, GENRE_WEIGHT));
+        addTerms(weighted, anime.getStudio(), META_WEIGHT);
+        addTerms(weighted, anime.getStatus(), META_WEIGHT);
+
+        Integer existing = docIdBySlug.get(slug);
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            removePostingsLocked(doc);
+            documents.set(doc, anime);
+        } else {
+            doc = documents.size();
+            docIdBySlug.put(slug, doc);
+            documents.add(anime);
+            docTerms.add(new int[0]);
+            if (doc == docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            liveDocuments++;
+        }
+
+        int[] ids = new int[weighted.size()];
+        float length = 0;
+        int index = 0;
+        for (Map.Entry<String, Float> entry : weighted.entrySet()) {
+            int termId = termIdFor(entry.getKey());
+            termPostings.get(termId).put(doc, entry.getValue());
+            ids[index++] = termId;
+            length += entry.getValue();
+        }
+        docTerms.set(doc, ids);
+        docLengths[doc] = length;
+        totalDocLength += length;
+    }
+
+    private void removePostingsLocked(int doc) {
+        for (int termId : docTerms.get(doc)) {
+            termPostings.get(termId).remove(doc);
+        }
+        totalDocLength -= docLengths[doc];
+        docLengths[doc] = 0;
+        docTerms.set(doc, new int[0]);
+    }
+
+    private int termIdFor(String term) {
+        Integer existing = vocabulary.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int termId = terms.size();
+        vocabulary.put(term, termId);
+        terms.add(term);
+        termPostings.add(new PostingList(true));
+        for (int gram : trigrams(term)) {
+            PostingList postings = trigramPostings[gram];
+            if (postings == null) {
+                postings = new PostingList(false);
+                trigramPostings[gram] = postings;
+            }
+            postings.put(termId, 1.0f);
+        }
+        return termId;
+    }
+
+    private void addTerms(Map<String, Float> weighted, String text, float weight) {
+        tokenize(text).forEach(term -> weighted.merge(term, weight, Float::sum));
+    }
+
+    private boolean isOngoing(Anime anime) {
+        String status = anime.getNormalizedStatus();
+        return status.contains("ongoing") || status.contains("releas");
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>();
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALNUM.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static int[] trigrams(String term) {
+        int length = term.length() + 2;
+        int[] grams = new int[length - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = symbol(term, i - 1) * ALPHABET * ALPHABET + symbol(term, i) * ALPHABET + symbol(term, i + 1);
+        }
+        return grams;
+    }
+
+    private static int symbol(String term, int index) {
+        if (index < 0 || index >= term.length()) {
+            return 0;
+        }
+        char c = term.charAt(index);
+        if (c >= 'a' && c <= 'z') {
+            return 1 + c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 27 + c - '0';
+        }
+        return 0;
+    }
+
+    static int boundedEditDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private record Candidate(int termId, float factor) {
+    }
+}
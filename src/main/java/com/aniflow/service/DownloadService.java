@@ -1,5 +1,9 @@
 package com.aniflow.service;
 
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.LatencyHistogram;
+import com.aniflow.metrics.MetricsRegistry;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -11,15 +15,28 @@ import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DownloadService {
+    private static final Counter DOWNLOADED_BYTES = MetricsRegistry.global().counter("download.bytes");
+    private static final Counter FAILED_DOWNLOADS = MetricsRegistry.global().counter("download.failures");
+    private static final LatencyHistogram DOWNLOAD_DURATION = MetricsRegistry.global().histogram("download.duration");
+
     private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicLong lastThroughputKBps = new AtomicLong();
+
+    public DownloadService() {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.registerExecutor("download", executor);
+        metrics.gauge("download.last_throughput_kBps", lastThroughputKBps::get);
+    }
 
     public CompletableFuture<Path> downloadEpisode(String sourceUrl, Path destination, ProgressListener progressListener) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return download(sourceUrl, destination, progressListener);
             } catch (IOException e) {
+                FAILED_DOWNLOADS.increment();
                 throw new RuntimeException("Download failed: " + e.getMessage(), e);
             }
         }, executor);
@@ -30,6 +47,7 @@ public class DownloadService {
     }
 
     private Path download(String sourceUrl, Path destination, ProgressListener progressListener) throws IOException {
+        long startNs = System.nanoTime();
         URL url = new URL(sourceUrl);
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
         connection.setRequestMethod("GET");
@@ -54,6 +72,7 @@ public class DownloadService {
             while ((read = in.read(buffer)) != -1) {
                 out.write(buffer, 0, read);
                 downloaded += read;
+                DOWNLOADED_BYTES.add(read);
                 if (progressListener != null && totalBytes > 0) {
                     double progress = (double) downloaded / totalBytes;
                     progressListener.onProgress(Math.min(1.0, progress));
@@ -64,6 +83,10 @@ public class DownloadService {
                 progressListener.onProgress(1.0);
             }
 
+            long elapsedNs = Math.max(1, System.nanoTime() - startNs);
+            lastThroughputKBps.set(downloaded * 1_000_000L / elapsedNs);
+            DOWNLOAD_DURATION.recordNanos(elapsedNs);
+
             return destination;
         }
     }
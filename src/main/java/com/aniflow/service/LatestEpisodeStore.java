@@ -0,0 +1,119 @@
+package com.aniflow.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LatestEpisodeStore {
+    private static final int SCHEMA_VERSION = 1;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path dataDir = Path.of(System.getProperty("user.home"), ".aniflow");
+    private final Path stateFile = dataDir.resolve("episode-tracker.json");
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean dirty;
+
+    public LatestEpisodeStore() {
+        load();
+    }
+
+    public Entry get(String slug) {
+        return slug == null ? null : entries.get(slug);
+    }
+
+    public void seed(String slug, int latestEpisode) {
+        if (isBlank(slug)) {
+            return;
+        }
+        if (entries.putIfAbsent(slug, new Entry(Math.max(latestEpisode, 0), 0, 0)) == null) {
+            dirty = true;
+        }
+    }
+
+    public void record(String slug, int latestEpisode, long checkedAtMs, boolean newEpisode) {
+        if (isBlank(slug)) {
+            return;
+        }
+        long detectedAtMs = newEpisode ? checkedAtMs : 0;
+        entries.merge(slug, new Entry(Math.max(latestEpisode, 0), checkedAtMs, detectedAtMs), (old, incoming) -> new Entry(
+            Math.max(old.latestEpisode(), incoming.latestEpisode()),
+            Math.max(old.checkedAtMs(), incoming.checkedAtMs()),
+            Math.max(old.detectedAtMs(), incoming.detectedAtMs())
+        ));
+        dirty = true;
+    }
+
+    public synchronized void flush() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        try {
+            Files.createDirectories(dataDir);
+            ObjectNode root = mapper.createObjectNode();
+            root.put("schemaVersion", SCHEMA_VERSION);
+            ArrayNode items = root.putArray("items");
+            entries.forEach((slug, entry) -> {
+                ArrayNode item = items.addArray();
+                item.add(slug);
+                item.add(entry.latestEpisode());
+                item.add(entry.checkedAtMs());
+                item.add(entry.detectedAtMs());
+            });
+
+            Path tempFile = stateFile.resolveSibling("episode-tracker.json.tmp");
+            mapper.writeValue(tempFile.toFile(), root);
+            try {
+                Files.move(tempFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(tempFile, stateFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ignored) {
+            dirty = true;
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(stateFile)) {
+            return;
+        }
+
+        try {
+            JsonNode root = mapper.readTree(stateFile.toFile());
+            if (root == null || root.path("schemaVersion").asInt(0) != SCHEMA_VERSION) {
+                return;
+            }
+
+            root.path("items").forEach(item -> {
+                String slug = item.path(0).asText("");
+                if (!isBlank(slug)) {
+                    entries.put(slug, new Entry(
+                        item.path(1).asInt(0),
+                        item.path(2).asLong(0),
+                        item.path(3).asLong(0)
+                    ));
+                }
+            });
+        } catch (IOException ignored) {
+            entries.clear();
+        }
+    }
+
+    private boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    public record Entry(int latestEpisode, long checkedAtMs, long detectedAtMs) {
+    }
+}
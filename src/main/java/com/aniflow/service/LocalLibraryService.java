@@ -13,9 +13,19 @@ import java.util.List;
 
 public class LocalLibraryService {
     private final ObjectMapper mapper = new ObjectMapper();
-    private final Path dataDir = Path.of(System.getProperty("user.home"), ".aniflow");
-    private final Path historyFile = dataDir.resolve("history.json");
-    private final Path watchlistFile = dataDir.resolve("watchlist.json");
+    private final Path dataDir;
+    private final Path historyFile;
+    private final Path watchlistFile;
+
+    public LocalLibraryService() {
+        this(Path.of(System.getProperty("user.home"), ".aniflow"));
+    }
+
+    public LocalLibraryService(Path dataDir) {
+        this.dataDir = dataDir;
+        this.historyFile = dataDir.resolve("history.json");
+        this.watchlistFile = dataDir.resolve("watchlist.json");
+    }
 
     public List<Anime> loadHistory() {
         return read(historyFile);
@@ -9,37 +9,50 @@ import com.aniflow.util.DesktopNotifier;
 import javafx.application.Platform;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 public class NotificationService {
+    private static final int SYNC_PARALLELISM = 4;
+    private static final long RECHECK_INTERVAL_MS = TimeUnit.HOURS.toMillis(20);
+    private static final long RELEASE_DAY_RECHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(25);
+    private static final Duration MAX_INITIAL_DELAY = Duration.ofHours(1);
+
     private final AppState state;
     private final AnimeRepository repository;
     private final DownloadService downloadService;
     private final DesktopNotifier notifier;
     private final ScheduledExecutorService scheduler;
-    private final Map<String, Integer> knownLatestEpisode = new ConcurrentHashMap<>();
+    private final LatestEpisodeStore episodeStore;
 
     private ScheduledFuture<?> checkTask;
+    private long scheduleGeneration;
+    private volatile SyncStats lastSyncStats = SyncStats.EMPTY;
+    private volatile Duration nextPollDelay = Duration.ZERO;
 
     public NotificationService(AppState state,
                                AnimeRepository repository,
                                DownloadService downloadService,
-                               DesktopNotifier notifier) {
+                               DesktopNotifier notifier,
+                               LatestEpisodeStore episodeStore) {
         this.state = state;
         this.repository = repository;
         this.downloadService = downloadService;
         this.notifier = notifier;
+        this.episodeStore = episodeStore;
         this.scheduler = Executors.newSingleThreadScheduledExecutor();
 
         state.batteryEfficientModeProperty().addListener((obs, oldValue, newValue) -> restart());
@@ -49,11 +62,17 @@ public class NotificationService {
         scheduleTask();
     }
 
-    public void stop() {
+    public synchronized void stop() {
+        scheduleGeneration++;
         if (checkTask != null) {
             checkTask.cancel(true);
         }
         scheduler.shutdownNow();
+        episodeStore.flush();
+    }
+
+    public SyncStats getLastSyncStats() {
+        return lastSyncStats;
     }
 
     public void seedWatchlist(List<Anime> animeList) {
@@ -61,54 +80,172 @@ public class NotificationService {
             return;
         }
 
-        animeList.forEach(anime -> {
-            if (anime.getSlug() != null) {
-                knownLatestEpisode.put(anime.getSlug(), Math.max(anime.getEpisodes(), 0));
-            }
-        });
+        animeList.forEach(anime -> episodeStore.seed(anime.getSlug(), anime.getEpisodes()));
+        episodeStore.flush();
+    }
+
+    public Duration getNextPollDelay() {
+        return nextPollDelay;
     }
 
-    private void restart() {
+    private synchronized void restart() {
         if (checkTask != null) {
             checkTask.cancel(false);
         }
         scheduleTask();
     }
 
-    private void scheduleTask() {
-        long intervalHours = state.isBatteryEfficientMode() ? 12 : 6;
-        checkTask = scheduler.scheduleWithFixedDelay(this::runSyncCycle, 1, intervalHours, TimeUnit.HOURS);
+    private synchronized void scheduleTask() {
+        ReleaseCalendar calendar = ReleaseCalendar.build(new ArrayList<>(state.getWatchlist()), episodeStore);
+        Duration delay = calendar.nextPollDelay(LocalDateTime.now(), state.isBatteryEfficientMode());
+        scheduleNext(++scheduleGeneration, delay.compareTo(MAX_INITIAL_DELAY) > 0 ? MAX_INITIAL_DELAY : delay);
+    }
+
+    private synchronized void scheduleNext(long generation, Duration delay) {
+        if (generation != scheduleGeneration || scheduler.isShutdown()) {
+            return;
+        }
+        nextPollDelay = delay;
+        checkTask = scheduler.schedule(() -> runScheduledCycle(generation), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runScheduledCycle(long generation) {
+        ReleaseCalendar calendar = ReleaseCalendar.build(List.of(), episodeStore);
+        try {
+            calendar = runSyncCycle();
+        } finally {
+            scheduleNext(generation, calendar.nextPollDelay(LocalDateTime.now(), state.isBatteryEfficientMode()));
+        }
     }
 
-    private void runSyncCycle() {
-        repository.syncOngoingNow();
+    private ReleaseCalendar runSyncCycle() {
+        long startedAtMs = System.currentTimeMillis();
+        long startedAtNs = System.nanoTime();
+        Map<String, Integer> ongoingLatest = indexLatestEpisodes(repository.syncOngoingNow().join());
 
         List<Anime> watchlist = snapshotWatchlist();
+        ReleaseCalendar calendar = ReleaseCalendar.build(watchlist, episodeStore);
         if (watchlist.isEmpty()) {
-            return;
+            lastSyncStats = new SyncStats(startedAtMs, elapsedMs(startedAtNs), 0, 0, 0, 0);
+            return calendar;
         }
 
+        long now = System.currentTimeMillis();
+        LocalDateTime localNow = LocalDateTime.now();
+        int probed = 0;
+        int skipped = 0;
+        List<Anime> pending = new ArrayList<>();
         for (Anime anime : watchlist) {
             if (anime.getSlug() == null || anime.getSlug().isBlank()) {
                 continue;
             }
 
-            AnimeDetail detail = repository.getAnimeDetail(anime.getSlug()).join();
-            int latest = detail.latestEpisodeNumber();
-            int previous = knownLatestEpisode.getOrDefault(anime.getSlug(), latest);
+            Integer latest = ongoingLatest.get(anime.getSlug());
+            if (latest != null) {
+                probed++;
+                checkLatestEpisode(anime, latest, null, now);
+            } else if (isDue(anime, calendar, localNow, now)) {
+                pending.add(anime);
+            } else {
+                skipped++;
+            }
+        }
+
+        pending.sort(Comparator.comparingInt((Anime anime) -> checkPriority(anime, calendar, localNow))
+            .thenComparingLong(this::lastCheckedAt));
+
+        Semaphore permits = new Semaphore(SYNC_PARALLELISM);
+        List<CompletableFuture<Boolean>> checks = new ArrayList<>();
+        for (Anime anime : pending) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            checks.add(repository.refreshEpisodeDetail(anime.getSlug())
+                .thenApply(detail -> {
+                    checkLatestEpisode(anime, detail.latestEpisodeNumber(), detail, System.currentTimeMillis());
+                    return true;
+                })
+                .exceptionally(ex -> false)
+                .whenComplete((ok, ex) -> permits.release()));
+        }
+
+        CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).join();
+        episodeStore.flush();
 
-            if (latest > previous) {
-                notifier.notify("Episode Baru", anime.getTitle() + " episode " + latest + " sudah tersedia.");
+        int failed = (int) checks.stream().filter(check -> !check.join()).count();
+        lastSyncStats = new SyncStats(startedAtMs, elapsedMs(startedAtNs), probed, checks.size(), skipped, failed);
+        return ReleaseCalendar.build(watchlist, episodeStore);
+    }
+
+    private boolean isDue(Anime anime, ReleaseCalendar calendar, LocalDateTime localNow, long now) {
+        long checkedAt = lastCheckedAt(anime);
+        if (checkedAt <= 0) {
+            return true;
+        }
+
+        long interval = calendar.isInReleaseWindow(anime.getSlug(), localNow) ? RELEASE_DAY_RECHECK_INTERVAL_MS : RECHECK_INTERVAL_MS;
+        if (state.isBatteryEfficientMode()) {
+            interval *= 2;
+        }
+        return now - checkedAt >= interval;
+    }
+
+    private int checkPriority(Anime anime, ReleaseCalendar calendar, LocalDateTime localNow) {
+        if (calendar.isInReleaseWindow(anime.getSlug(), localNow)) {
+            return 0;
+        }
+        String status = anime.getStatus() == null ? "" : anime.getStatus().toLowerCase(Locale.ROOT);
+        return status.contains("ongoing") || status.contains("releas") ? 1 : 2;
+    }
+
+    private long lastCheckedAt(Anime anime) {
+        LatestEpisodeStore.Entry entry = episodeStore.get(anime.getSlug());
+        return entry == null ? 0 : entry.checkedAtMs();
+    }
+
+    private Map<String, Integer> indexLatestEpisodes(List<Anime> ongoing) {
+        Map<String, Integer> latestBySlug = new HashMap<>();
+        if (ongoing == null) {
+            return latestBySlug;
+        }
+
+        ongoing.forEach(anime -> {
+            if (anime.getSlug() != null && anime.getEpisodes() > 0) {
+                latestBySlug.merge(anime.getSlug(), anime.getEpisodes(), Math::max);
+            }
+        });
+        return latestBySlug;
+    }
+
+    private void checkLatestEpisode(Anime anime, int latest, AnimeDetail detail, long checkedAtMs) {
+        LatestEpisodeStore.Entry known = episodeStore.get(anime.getSlug());
+        int previous = known == null ? latest : known.latestEpisode();
 
-                if (state.isAutoDownloadNewEpisode()) {
-                    detail.getEpisodeList().stream()
-                        .max(Comparator.comparingInt(EpisodeInfo::getEpisodeNumber))
-                        .ifPresent(ep -> autoDownload(anime, ep));
-                }
+        if (latest > previous) {
+            if (detail == null) {
+                repository.invalidateDetail(anime.getSlug());
             }
+            notifier.notify("Episode Baru", anime.getTitle() + " episode " + latest + " sudah tersedia.");
 
-            knownLatestEpisode.put(anime.getSlug(), Math.max(previous, latest));
+            if (state.isAutoDownloadNewEpisode()) {
+                CompletableFuture<AnimeDetail> source = detail != null
+                    ? CompletableFuture.completedFuture(detail)
+                    : repository.refreshEpisodeDetail(anime.getSlug());
+                source.thenAccept(resolved -> resolved.getEpisodeList().stream()
+                    .max(Comparator.comparingInt(EpisodeInfo::getEpisodeNumber))
+                    .ifPresent(ep -> autoDownload(anime, ep)));
+            }
         }
+
+        episodeStore.record(anime.getSlug(), latest, checkedAtMs, latest > previous);
+    }
+
+    private long elapsedMs(long startedAtNs) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNs);
     }
 
     private void autoDownload(Anime anime, EpisodeInfo episodeInfo) {
@@ -149,4 +286,13 @@ public class NotificationService {
             return List.of();
         }
     }
+
+    public record SyncStats(long startedAtMs,
+                            long durationMs,
+                            int probedCount,
+                            int detailFetchCount,
+                            int skippedCount,
+                            int failedCount) {
+        static final SyncStats EMPTY = new SyncStats(0, 0, 0, 0, 0, 0);
+    }
 }
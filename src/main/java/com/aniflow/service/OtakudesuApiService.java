@@ -1,5 +1,7 @@
 package com.aniflow.service;
 
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.MetricsRegistry;
 import com.aniflow.model.Anime;
 import com.aniflow.model.AnimeDetail;
 import com.aniflow.model.EpisodeInfo;
@@ -25,18 +27,41 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class OtakudesuApiService {
-    private static final String BASE_URL = "https://otakudesu-api.vercel.app";
+    private static final String DEFAULT_BASE_URL = "https://otakudesu-api.vercel.app";
     private static final Pattern DIGIT_PATTERN = Pattern.compile("(\\d+)");
+    private static final List<String> SLUG_ENDPOINTS = List.of(
+        "/api/anime/details/", "/api/anime/stream/", "/api/anime/genre/", "/anime/", "/episode/", "/genre/"
+    );
+    private static final int REQUEST_RETRIES = 3;
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final Counter FAILED_LOOKUPS = MetricsRegistry.global().counter("http.failed_lookups");
+    private static final Counter CANCELLED = MetricsRegistry.global().counter("http.cancelled");
+
+    static {
+        MetricsRegistry.global().gauge("http.in_flight", IN_FLIGHT::get);
+    }
 
+    private final String baseUrl;
     private final HttpClient httpClient;
     private final ObjectMapper mapper;
 
     public OtakudesuApiService() {
+        this(System.getProperty("aniflow.api.baseUrl", System.getenv("ANIFLOW_API_BASE_URL")));
+    }
+
+    public OtakudesuApiService(String baseUrl) {
+        String safeBaseUrl = baseUrl == null || baseUrl.isBlank() ? DEFAULT_BASE_URL : baseUrl.trim();
+        this.baseUrl = safeBaseUrl.endsWith("/") ? safeBaseUrl.substring(0, safeBaseUrl.length() - 1) : safeBaseUrl;
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(12))
             .build();
@@ -53,6 +78,10 @@ public class OtakudesuApiService {
         return parseAnimeArray(root);
     }
 
+    public CompletableFuture<List<Anime>> fetchOngoingAsync() {
+        return requestAnimeListAsync(List.of("/api/anime/ongoing", "/ongoing"));
+    }
+
     public List<Anime> fetchTopByRating() {
         JsonNode root = requestAny(List.of("/api/anime/complete?sort=rating", "/api/anime/complete", "/complete?sort=rating"));
         return parseAnimeArray(root).stream()
@@ -82,15 +111,39 @@ public class OtakudesuApiService {
         return parseAnimeArray(root);
     }
 
+    public CompletableFuture<List<Anime>> searchAnimeAsync(String query) {
+        String encoded = URLEncoder.encode(query == null ? "" : query, StandardCharsets.UTF_8);
+        return requestAnimeListAsync(List.of("/api/anime/search?q=" + encoded, "/search?q=" + encoded));
+    }
+
     public List<Anime> fetchByGenre(String genreSlug) {
         String encoded = URLEncoder.encode(genreSlug, StandardCharsets.UTF_8);
         JsonNode root = requestAny(List.of("/api/anime/genre/" + encoded, "/genre/" + encoded));
         return parseAnimeArray(root);
     }
 
+    public CompletableFuture<List<Anime>> fetchByGenreAsync(String genreSlug) {
+        String encoded = URLEncoder.encode(genreSlug, StandardCharsets.UTF_8);
+        return requestAnimeListAsync(List.of("/api/anime/genre/" + encoded, "/genre/" + encoded));
+    }
+
     public AnimeDetail fetchAnimeDetail(String slug) {
         String encoded = URLEncoder.encode(slug, StandardCharsets.UTF_8);
         JsonNode root = requestAny(List.of("/api/anime/details/" + encoded, "/anime/" + encoded));
+        return parseAnimeDetail(root, slug);
+    }
+
+    public EpisodeStream fetchEpisodeStream(String episodeSlug) {
+        String encoded = URLEncoder.encode(episodeSlug, StandardCharsets.UTF_8);
+        JsonNode root = requestAny(List.of("/api/anime/stream/" + encoded, "/episode/" + encoded));
+        return parseEpisodeStream(root, episodeSlug);
+    }
+
+    public List<Anime> parseAnimeList(JsonNode root) {
+        return parseAnimeArray(root);
+    }
+
+    public AnimeDetail parseAnimeDetail(JsonNode root, String slug) {
         JsonNode data = root.path("data");
         if (data.isMissingNode() || data.isNull()) {
             throw new IllegalStateException("Anime detail not found for slug: " + slug);
@@ -101,9 +154,7 @@ public class OtakudesuApiService {
         return new AnimeDetail(anime, episodes, Collections.emptyList());
     }
 
-    public EpisodeStream fetchEpisodeStream(String episodeSlug) {
-        String encoded = URLEncoder.encode(episodeSlug, StandardCharsets.UTF_8);
-        JsonNode root = requestAny(List.of("/api/anime/stream/" + encoded, "/episode/" + encoded));
+    public EpisodeStream parseEpisodeStream(JsonNode root, String episodeSlug) {
         JsonNode data = root.path("data");
 
         String title = text(data, "title", "Episode");
@@ -139,11 +190,12 @@ public class OtakudesuApiService {
         Exception last = null;
         for (String path : paths) {
             try {
-                return requestWithRetry(path, 3);
+                return requestWithRetry(path, REQUEST_RETRIES);
             } catch (Exception ex) {
                 last = ex;
             }
         }
+        FAILED_LOOKUPS.increment();
         throw new IllegalStateException("All endpoint candidates failed", last);
     }
 
@@ -171,14 +223,118 @@ public class OtakudesuApiService {
     }
 
     private JsonNode request(String path) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(BASE_URL + path))
+        String endpoint = endpointOf(path);
+        MetricsRegistry metrics = MetricsRegistry.global();
+        long startNs = System.nanoTime();
+        IN_FLIGHT.incrementAndGet();
+        try {
+            return readResponse(path, httpClient.send(buildRequest(path), HttpResponse.BodyHandlers.ofString()));
+        } catch (IOException ex) {
+            metrics.counter(MetricsRegistry.tagged("http.errors", "endpoint", endpoint)).increment();
+            throw ex;
+        } finally {
+            IN_FLIGHT.decrementAndGet();
+            metrics.histogram(MetricsRegistry.tagged("http.latency", "endpoint", endpoint)).recordSince(startNs);
+        }
+    }
+
+    private CompletableFuture<List<Anime>> requestAnimeListAsync(List<String> paths) {
+        CompletableFuture<JsonNode> root = requestAnyAsync(paths);
+        CompletableFuture<List<Anime>> parsed = root.thenApply(this::parseAnimeArray);
+        parsed.whenComplete((list, error) -> {
+            if (parsed.isCancelled()) {
+                root.cancel(true);
+            }
+        });
+        return parsed;
+    }
+
+    private CompletableFuture<JsonNode> requestAnyAsync(List<String> paths) {
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> exchange = new AtomicReference<>();
+        result.whenComplete((root, error) -> {
+            CompletableFuture<?> current = exchange.get();
+            if (result.isCancelled() && current != null && current.cancel(true)) {
+                CANCELLED.increment();
+            }
+        });
+        attemptAsync(paths, 0, 1, null, exchange, result);
+        return result;
+    }
+
+    private void attemptAsync(
+        List<String> paths,
+        int pathIndex,
+        int attempt,
+        Throwable last,
+        AtomicReference<CompletableFuture<?>> exchange,
+        CompletableFuture<JsonNode> result
+    ) {
+        if (result.isDone()) {
+            return;
+        }
+        if (pathIndex >= paths.size()) {
+            FAILED_LOOKUPS.increment();
+            result.completeExceptionally(new IllegalStateException("All endpoint candidates failed", last));
+            return;
+        }
+
+        String path = paths.get(pathIndex);
+        String endpoint = endpointOf(path);
+        MetricsRegistry metrics = MetricsRegistry.global();
+        long startNs = System.nanoTime();
+        IN_FLIGHT.incrementAndGet();
+        CompletableFuture<HttpResponse<String>> call = httpClient.sendAsync(buildRequest(path), HttpResponse.BodyHandlers.ofString());
+        exchange.set(call);
+        if (result.isCancelled()) {
+            call.cancel(true);
+        }
+
+        call.whenComplete((response, sendError) -> {
+            IN_FLIGHT.decrementAndGet();
+            metrics.histogram(MetricsRegistry.tagged("http.latency", "endpoint", endpoint)).recordSince(startNs);
+            if (result.isDone()) {
+                return;
+            }
+
+            Throwable error = sendError;
+            if (error == null) {
+                try {
+                    result.complete(readResponse(path, response));
+                    return;
+                } catch (IOException ex) {
+                    error = ex;
+                }
+            }
+            if (error instanceof CompletionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            if (error instanceof CancellationException) {
+                result.cancel(true);
+                return;
+            }
+
+            metrics.counter(MetricsRegistry.tagged("http.errors", "endpoint", endpoint)).increment();
+            Throwable failure = error;
+            if (attempt < REQUEST_RETRIES) {
+                CompletableFuture.delayedExecutor(250L * attempt, TimeUnit.MILLISECONDS)
+                    .execute(() -> attemptAsync(paths, pathIndex, attempt + 1, failure, exchange, result));
+            } else {
+                attemptAsync(paths, pathIndex + 1, 1, failure, exchange, result);
+            }
+        });
+    }
+
+    private HttpRequest buildRequest(String path) {
+        return HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + path))
             .timeout(Duration.ofSeconds(20))
             .header("Accept", "application/json")
             .GET()
             .build();
+    }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    private JsonNode readResponse(String path, HttpResponse<String> response) throws IOException {
         if (response.statusCode() < 200 || response.statusCode() >= 300) {
             throw new IOException("HTTP " + response.statusCode() + " for " + path);
         }
@@ -190,6 +346,17 @@ public class OtakudesuApiService {
         return root;
     }
 
+    private String endpointOf(String path) {
+        int query = path.indexOf('?');
+        String bare = query >= 0 ? path.substring(0, query) : path;
+        for (String prefix : SLUG_ENDPOINTS) {
+            if (bare.startsWith(prefix)) {
+                return prefix + '*';
+            }
+        }
+        return bare;
+    }
+
     private List<Anime> parseAnimeArray(JsonNode root) {
         JsonNode data = root.path("data");
 
@@ -1,5 +1,7 @@
 package com.aniflow.service;
 
+import com.aniflow.metrics.LatencyHistogram;
+import com.aniflow.metrics.MetricsRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -19,12 +21,19 @@ public class PlaybackProgressService {
     private static final int SCHEMA_VERSION = 1;
     private static final int MIN_SAVE_SEC = 5;
     private static final int MAX_ITEMS = 300;
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.global().histogram("progress.save");
 
     private final ObjectMapper mapper = new ObjectMapper();
-    private final Path dataDir = Path.of(System.getProperty("user.home"), ".aniflow");
-    private final Path progressFile = dataDir.resolve("progress.json");
+    private final Path dataDir;
+    private final Path progressFile;
 
     public PlaybackProgressService() {
+        this(Path.of(System.getProperty("user.home"), ".aniflow"));
+    }
+
+    public PlaybackProgressService(Path dataDir) {
+        this.dataDir = dataDir;
+        this.progressFile = dataDir.resolve("progress.json");
         initialize();
     }
 
@@ -55,6 +64,7 @@ public class PlaybackProgressService {
             return;
         }
 
+        long startNs = System.nanoTime();
         long now = System.currentTimeMillis();
         ProgressState state = loadStateSafely();
         ProgressItem existing = state.find(animeSlug, episodeSlug);
@@ -85,6 +95,7 @@ public class PlaybackProgressService {
         trimToLimit(state.items, MAX_ITEMS);
         state.updatedAtMs = now;
         writeStateAtomic(state);
+        SAVE_LATENCY.recordSince(startNs);
     }
 
     private void initialize() {
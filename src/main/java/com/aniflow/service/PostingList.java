@@ -0,0 +1,64 @@
+package com.aniflow.service;
+
+import java.util.Arrays;
+
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private float[] weights;
+    private int size;
+
+    PostingList(boolean weighted) {
+        this.weights = weighted ? new float[INITIAL_CAPACITY] : null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int id(int index) {
+        return ids[index];
+    }
+
+    float weight(int index) {
+        return weights == null ? 1.0f : weights[index];
+    }
+
+    void put(int id, float weight) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            if (weights != null) {
+                weights[index] = weight;
+            }
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        if (weights != null) {
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            weights[insertAt] = weight;
+        }
+        size++;
+    }
+
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        if (weights != null) {
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+        }
+        size--;
+    }
+}
@@ -0,0 +1,86 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.util.ReleaseDays;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ReleaseCalendar {
+    private static final Duration RELEASE_WINDOW = Duration.ofHours(36);
+    private static final Duration ACTIVE_POLL = Duration.ofMinutes(30);
+    private static final Duration ACTIVE_POLL_BATTERY = Duration.ofMinutes(90);
+    private static final Duration IDLE_POLL = Duration.ofHours(6);
+    private static final Duration IDLE_POLL_BATTERY = Duration.ofHours(12);
+    private static final Duration MIN_POLL = Duration.ofMinutes(1);
+
+    private final Map<String, DayOfWeek> releaseDays;
+
+    private ReleaseCalendar(Map<String, DayOfWeek> releaseDays) {
+        this.releaseDays = releaseDays;
+    }
+
+    public static ReleaseCalendar build(List<Anime> watchlist, LatestEpisodeStore store) {
+        Map<String, DayOfWeek> days = new HashMap<>();
+        if (watchlist == null) {
+            return new ReleaseCalendar(days);
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        for (Anime anime : watchlist) {
+            if (anime.getSlug() == null || anime.getSlug().isBlank()) {
+                continue;
+            }
+
+            Optional<DayOfWeek> day = ReleaseDays.parse(anime.getReleaseInfo());
+            if (day.isEmpty() && store != null) {
+                LatestEpisodeStore.Entry entry = store.get(anime.getSlug());
+                if (entry != null && entry.detectedAtMs() > 0) {
+                    day = Optional.of(Instant.ofEpochMilli(entry.detectedAtMs()).atZone(zone).getDayOfWeek());
+                }
+            }
+            day.ifPresent(value -> days.put(anime.getSlug(), value));
+        }
+        return new ReleaseCalendar(days);
+    }
+
+    public Optional<DayOfWeek> releaseDay(String slug) {
+        return Optional.ofNullable(releaseDays.get(slug));
+    }
+
+    public boolean isInReleaseWindow(String slug, LocalDateTime now) {
+        DayOfWeek day = releaseDays.get(slug);
+        if (day == null) {
+            return false;
+        }
+        LocalDateTime start = now.toLocalDate().with(TemporalAdjusters.previousOrSame(day)).atStartOfDay();
+        return now.isBefore(start.plus(RELEASE_WINDOW));
+    }
+
+    public Duration nextPollDelay(LocalDateTime now, boolean batteryEfficient) {
+        Duration active = batteryEfficient ? ACTIVE_POLL_BATTERY : ACTIVE_POLL;
+        Duration delay = batteryEfficient ? IDLE_POLL_BATTERY : IDLE_POLL;
+
+        for (Map.Entry<String, DayOfWeek> entry : releaseDays.entrySet()) {
+            if (isInReleaseWindow(entry.getKey(), now)) {
+                return active;
+            }
+
+            LocalDateTime nextStart = now.toLocalDate().with(TemporalAdjusters.next(entry.getValue())).atStartOfDay();
+            Duration untilStart = Duration.between(now, nextStart);
+            if (untilStart.compareTo(delay) < 0) {
+                delay = untilStart;
+            }
+        }
+
+        return delay.compareTo(MIN_POLL) < 0 ? MIN_POLL : delay;
+    }
+}
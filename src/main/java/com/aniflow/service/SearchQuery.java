@@ -0,0 +1,56 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+record SearchQuery(String text, String genre, String season, String status) {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String ANY_GENRE = "all";
+    private static final String ANY = "any";
+
+    static SearchQuery of(String keyword, SearchFilter filter) {
+        SearchFilter safeFilter = filter == null ? SearchFilter.empty() : filter;
+        String text = keyword == null ? "" : WHITESPACE.matcher(keyword.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return new SearchQuery(
+            text,
+            normalize(safeFilter.genre(), ANY_GENRE),
+            normalize(safeFilter.season(), ANY),
+            normalize(safeFilter.status(), ANY)
+        );
+    }
+
+    boolean hasText() {
+        return !text.isEmpty();
+    }
+
+    boolean hasGenre() {
+        return !ANY_GENRE.equals(genre);
+    }
+
+    String key() {
+        return baseKey() + '|' + genre + '|' + season + '|' + status;
+    }
+
+    String baseKey() {
+        if (hasText()) {
+            return "search:q=" + text;
+        }
+        return hasGenre() ? "search:genre=" + genre : "search:ongoing";
+    }
+
+    List<Anime> refine(List<Anime> base) {
+        List<Anime> matched = hasText() ? AnimeRepository.filterByGenre(base, genre) : base;
+        return AnimeRepository.filterByStatus(matched, status);
+    }
+
+    private static String normalize(String value, String fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
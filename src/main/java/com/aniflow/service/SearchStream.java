@@ -0,0 +1,79 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public class SearchStream {
+    private final long token;
+    private final Consumer<Batch> sink;
+    private final Set<String> seenSlugs = new HashSet<>();
+    private volatile boolean cancelled;
+    private volatile CompletableFuture<?> pending;
+    private boolean completed;
+
+    SearchStream(long token, Consumer<Batch> sink) {
+        this.token = token;
+        this.sink = sink;
+    }
+
+    public long token() {
+        return token;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        CompletableFuture<?> current = pending;
+        if (current != null) {
+            current.cancel(true);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void attach(CompletableFuture<?> request) {
+        pending = request;
+        if (cancelled) {
+            request.cancel(true);
+        }
+    }
+
+    void emit(List<Anime> items, Source source, boolean complete) {
+        Batch batch;
+        synchronized (this) {
+            if (cancelled || completed) {
+                return;
+            }
+            List<Anime> fresh = new ArrayList<>();
+            if (items != null) {
+                for (Anime anime : items) {
+                    if (anime != null && seenSlugs.add(anime.getSlug())) {
+                        fresh.add(anime);
+                    }
+                }
+            }
+            if (fresh.isEmpty() && !complete) {
+                return;
+            }
+            completed = complete;
+            batch = new Batch(token, List.copyOf(fresh), source, complete, seenSlugs.size());
+        }
+        sink.accept(batch);
+    }
+
+    public enum Source {
+        LOCAL,
+        CACHE,
+        NETWORK
+    }
+
+    public record Batch(long token, List<Anime> items, Source source, boolean complete, int totalSoFar) {
+    }
+}
@@ -0,0 +1,657 @@
+package com.aniflow.service;
+
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.MetricsRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class StreamCacheProxy {
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int READ_AHEAD_CHUNKS = 4;
+    private static final long MAX_CACHE_BYTES = Math.max(CHUNK_SIZE, Long.getLong("aniflow.streamCache.maxBytes", 1024L * 1024 * 1024));
+    private static final String MEDIA_PREFIX = "/m/";
+    private static final String FULL_BODY_MARKER = "full";
+    private static final Pattern CONTENT_RANGE_TOTAL = Pattern.compile("/(\\d+)\\s*$");
+    private static final Pattern RANGE_HEADER = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final Pattern URI_ATTRIBUTE = Pattern.compile("URI=\"([^\"]+)\"");
+    private static final Counter CHUNK_HITS = MetricsRegistry.global().counter("stream_cache.chunk_hits");
+    private static final Counter CHUNK_MISSES = MetricsRegistry.global().counter("stream_cache.chunk_misses");
+    private static final Counter PROXY_ERRORS = MetricsRegistry.global().counter("stream_cache.proxy_errors");
+    private static final Counter REJECTED_REQUESTS = MetricsRegistry.global().counter("stream_cache.rejected_requests");
+
+    private final Path cacheDir = Path.of(System.getProperty("user.home"), ".aniflow", "stream-cache");
+    private final HttpClient httpClient;
+    private final Cache<String, String> registeredUpstreams;
+    private final Cache<String, ResourceInfo> resources;
+    private final Map<Path, CompletableFuture<Path>> inflightChunks = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Path, Long> lru = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<Path, Integer> pinnedChunks = new HashMap<>();
+    private final Set<String> fullBodyWrites = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean failureLogged = new AtomicBoolean();
+    private long cachedBytes;
+
+    private HttpServer server;
+    private boolean closed;
+    private ExecutorService serverExecutor;
+    private ExecutorService readAheadExecutor;
+
+    public StreamCacheProxy() {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(12))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        this.registeredUpstreams = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterAccess(Duration.ofHours(12))
+            .build();
+        this.resources = Caffeine.newBuilder()
+            .maximumSize(4_096)
+            .expireAfterAccess(Duration.ofHours(12))
+            .build();
+    }
+
+    public String proxify(String url) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return url;
+        }
+        int port = ensureStarted();
+        if (port < 0) {
+            return url;
+        }
+
+        String token = sha1(url);
+        registeredUpstreams.put(token, url);
+        return "http://127.0.0.1:" + port + MEDIA_PREFIX + token + '/' + fileNameOf(url);
+    }
+
+    public void warmUp() {
+        ensureStarted();
+    }
+
+    public synchronized void shutdown() {
+        closed = true;
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (serverExecutor != null) {
+            serverExecutor.shutdownNow();
+        }
+        if (readAheadExecutor != null) {
+            readAheadExecutor.shutdownNow();
+        }
+    }
+
+    private synchronized int ensureStarted() {
+        if (closed) {
+            return -1;
+        }
+        if (server != null) {
+            return server.getAddress().getPort();
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            indexCacheDir();
+
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            serverExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "aniflow-stream-proxy");
+                thread.setDaemon(true);
+                return thread;
+            });
+            readAheadExecutor = Executors.newFixedThreadPool(2);
+            server.setExecutor(serverExecutor);
+            server.createContext(MEDIA_PREFIX, this::handle);
+            server.start();
+            return server.getAddress().getPort();
+        } catch (IOException ex) {
+            server = null;
+            return -1;
+        }
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String upstream = registeredUpstream(exchange.getRequestURI().getRawPath());
+            if (upstream == null) {
+                REJECTED_REQUESTS.increment();
+                exchange.sendResponseHeaders(403, -1);
+                return;
+            }
+
+            if (isPlaylist(upstream)) {
+                servePlaylist(exchange, upstream);
+                return;
+            }
+
+            ResourceInfo info = resolveInfo(upstream);
+            if (info == null || info.totalLength() <= 0 || !(info.rangeSupported() || isFullyCached(upstream, info))) {
+                passThrough(exchange, upstream);
+                return;
+            }
+
+            serveCached(exchange, upstream, info);
+        } catch (Exception ex) {
+            reportFailure(exchange, ex);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void reportFailure(HttpExchange exchange, Exception error) {
+        PROXY_ERRORS.increment();
+        if (failureLogged.compareAndSet(false, true)) {
+            System.err.println("[AniFlow] stream proxy failed for " + exchange.getRequestURI().getRawPath() + ": " + error);
+        }
+        if (exchange.getResponseCode() == -1) {
+            try {
+                exchange.sendResponseHeaders(502, -1);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void serveCached(HttpExchange exchange, String upstream, ResourceInfo info) throws IOException {
+        long total = info.totalLength();
+        String rangeHeader = exchange.getRequestHeaders().getFirst("Range");
+        long start = 0;
+        long end = total - 1;
+        boolean partial = false;
+
+        if (rangeHeader != null) {
+            ByteRange range = parseRange(rangeHeader, total);
+            if (range == null) {
+                exchange.getResponseHeaders().set("Content-Range", "bytes */" + total);
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+            start = range.start();
+            end = range.end();
+            partial = true;
+        }
+
+        long length = end - start + 1;
+        exchange.getResponseHeaders().set("Content-Type", info.contentType());
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        if (partial) {
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + '-' + end + '/' + total);
+        }
+        if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(length));
+            exchange.sendResponseHeaders(partial ? 206 : 200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(partial ? 206 : 200, length);
+
+        OutputStream out = exchange.getResponseBody();
+        byte[] buffer = new byte[64 * 1024];
+        long position = start;
+        while (position <= end) {
+            int chunkIndex = (int) (position / CHUNK_SIZE);
+            scheduleReadAhead(upstream, info, chunkIndex);
+
+            long chunkStart = (long) chunkIndex * CHUNK_SIZE;
+            long chunkEnd = Math.min(chunkStart + CHUNK_SIZE, total) - 1;
+            long sliceEnd = Math.min(chunkEnd, end);
+
+            Path pinned = chunkPath(upstream, chunkIndex);
+            pin(pinned);
+            try {
+                Path chunk = loadChunk(upstream, info, chunkIndex);
+                try (RandomAccessFile file = new RandomAccessFile(chunk.toFile(), "r")) {
+                    file.seek(position - chunkStart);
+                    long remaining = sliceEnd - position + 1;
+                    while (remaining > 0) {
+                        int read = file.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                        if (read < 0) {
+                            throw new IOException("Truncated cache chunk: " + chunk);
+                        }
+                        out.write(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+            } finally {
+                unpin(pinned);
+            }
+            position = sliceEnd + 1;
+        }
+        out.flush();
+    }
+
+    private ByteRange parseRange(String header, long total) {
+        Matcher matcher = RANGE_HEADER.matcher(header.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String from = matcher.group(1);
+        String to = matcher.group(2);
+        if (from.isEmpty() && to.isEmpty()) {
+            return null;
+        }
+
+        try {
+            long start;
+            long end = total - 1;
+            if (from.isEmpty()) {
+                start = Math.max(0, total - Long.parseLong(to));
+            } else {
+                start = Long.parseLong(from);
+                if (!to.isEmpty()) {
+                    end = Math.min(Long.parseLong(to), total - 1);
+                }
+            }
+            return start > end || start >= total ? null : new ByteRange(start, end);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private void scheduleReadAhead(String upstream, ResourceInfo info, int fromChunk) {
+        if (!info.rangeSupported()) {
+            return;
+        }
+        int lastChunk = (int) ((info.totalLength() - 1) / CHUNK_SIZE);
+        for (int i = fromChunk + 1; i <= Math.min(lastChunk, fromChunk + READ_AHEAD_CHUNKS); i++) {
+            int chunkIndex = i;
+            Path path = chunkPath(upstream, chunkIndex);
+            if (Files.exists(path) || inflightChunks.containsKey(path)) {
+                continue;
+            }
+            readAheadExecutor.execute(() -> {
+                try {
+                    loadChunk(upstream, info, chunkIndex);
+                } catch (IOException ignored) {
+                }
+            });
+        }
+    }
+
+    private Path loadChunk(String upstream, ResourceInfo info, int chunkIndex) throws IOException {
+        Path path = chunkPath(upstream, chunkIndex);
+        if (Files.exists(path)) {
+            CHUNK_HITS.increment();
+            touch(path);
+            return path;
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inflightChunks.putIfAbsent(path, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (Exception ex) {
+                throw new IOException("Chunk fetch failed: " + chunkIndex, ex);
+            }
+        }
+
+        CHUNK_MISSES.increment();
+        try {
+            if (!info.rangeSupported()) {
+                throw new IOException("Evicted chunk " + chunkIndex + " of a non-range resource");
+            }
+            long start = (long) chunkIndex * CHUNK_SIZE;
+            long end = Math.min(start + CHUNK_SIZE, info.totalLength()) - 1;
+            HttpResponse<byte[]> response = httpClient.send(
+                upstreamRequest(upstream).header("Range", "bytes=" + start + '-' + end).build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+            );
+            if (response.statusCode() != 206 || response.body().length != end - start + 1) {
+                throw new IOException("HTTP " + response.statusCode() + " for chunk " + chunkIndex);
+            }
+            writeChunk(path, response.body());
+            created.complete(path);
+            return path;
+        } catch (IOException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            created.completeExceptionally(ex);
+            throw new IOException("Interrupted while fetching chunk " + chunkIndex, ex);
+        } finally {
+            inflightChunks.remove(path, created);
+        }
+    }
+
+    private ResourceInfo resolveInfo(String upstream) throws IOException, InterruptedException {
+        ResourceInfo cached = resources.getIfPresent(upstream);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path metaFile = resourceDir(upstream).resolve("meta");
+        if (Files.exists(metaFile)) {
+            List<String> lines = Files.readAllLines(metaFile, StandardCharsets.UTF_8);
+            if (lines.size() >= 2) {
+                boolean rangeSupported = lines.size() < 3 || !FULL_BODY_MARKER.equals(lines.get(2));
+                ResourceInfo info = new ResourceInfo(Long.parseLong(lines.get(0)), lines.get(1), rangeSupported);
+                resources.put(upstream, info);
+                return info;
+            }
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(
+            upstreamRequest(upstream).header("Range", "bytes=0-" + (CHUNK_SIZE - 1)).build(),
+            HttpResponse.BodyHandlers.ofInputStream()
+        );
+
+        try (InputStream body = response.body()) {
+            String contentType = response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+            if (response.statusCode() != 206) {
+                ResourceInfo info = new ResourceInfo(-1, contentType, false);
+                resources.put(upstream, info);
+                return info;
+            }
+
+            long total = response.headers().firstValue("Content-Range")
+                .map(CONTENT_RANGE_TOTAL::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Long.parseLong(matcher.group(1)))
+                .orElse(-1L);
+            ResourceInfo info = new ResourceInfo(total, contentType, total > 0);
+            if (total > 0) {
+                byte[] firstChunk = body.readNBytes((int) Math.min(CHUNK_SIZE, total));
+                if (firstChunk.length == Math.min(CHUNK_SIZE, total)) {
+                    writeChunk(chunkPath(upstream, 0), firstChunk);
+                }
+                Files.createDirectories(metaFile.getParent());
+                Files.writeString(metaFile, total + "\n" + contentType + "\n", StandardCharsets.UTF_8);
+            }
+            resources.put(upstream, info);
+            return info;
+        }
+    }
+
+    private void passThrough(HttpExchange exchange, String upstream) throws IOException, InterruptedException {
+        HttpRequest.Builder request = upstreamRequest(upstream);
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            request.header("Range", range);
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            for (String header : List.of("Content-Type", "Content-Range", "Accept-Ranges")) {
+                response.headers().firstValue(header).ifPresent(value -> exchange.getResponseHeaders().set(header, value));
+            }
+            long length = response.headers().firstValueAsLong("Content-Length").orElse(0);
+            exchange.sendResponseHeaders(response.statusCode(), length > 0 ? length : 0);
+            if (response.statusCode() == 200 && fullBodyWrites.add(upstream)) {
+                try {
+                    String contentType = response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+                    streamAndCache(upstream, contentType, body, exchange.getResponseBody());
+                } finally {
+                    fullBodyWrites.remove(upstream);
+                }
+            } else {
+                body.transferTo(exchange.getResponseBody());
+            }
+        }
+    }
+
+    private void streamAndCache(String upstream, String contentType, InputStream body, OutputStream out) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int chunkIndex = 0;
+        int filled = 0;
+        long total = 0;
+        List<Path> written = new ArrayList<>();
+        try {
+            int read;
+            while ((read = body.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                total += read;
+                int offset = 0;
+                while (offset < read) {
+                    int copied = Math.min(read - offset, CHUNK_SIZE - filled);
+                    System.arraycopy(buffer, offset, chunk, filled, copied);
+                    filled += copied;
+                    offset += copied;
+                    if (filled == CHUNK_SIZE) {
+                        Path path = chunkPath(upstream, chunkIndex++);
+                        written.add(path);
+                        writeChunk(path, chunk);
+                        filled = 0;
+                    }
+                }
+            }
+            if (filled > 0) {
+                Path path = chunkPath(upstream, chunkIndex);
+                written.add(path);
+                writeChunk(path, Arrays.copyOf(chunk, filled));
+            }
+            if (total == 0) {
+                return;
+            }
+
+            Path metaFile = resourceDir(upstream).resolve("meta");
+            Files.writeString(metaFile, total + "\n" + contentType + "\n" + FULL_BODY_MARKER + "\n", StandardCharsets.UTF_8);
+            resources.put(upstream, new ResourceInfo(total, contentType, false));
+        } catch (IOException | RuntimeException ex) {
+            written.forEach(this::discardChunk);
+            throw ex;
+        }
+    }
+
+    private boolean isFullyCached(String upstream, ResourceInfo info) {
+        int lastChunk = (int) ((info.totalLength() - 1) / CHUNK_SIZE);
+        for (int i = 0; i <= lastChunk; i++) {
+            if (!Files.exists(chunkPath(upstream, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void servePlaylist(HttpExchange exchange, String upstream) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(upstreamRequest(upstream).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            exchange.sendResponseHeaders(response.statusCode(), -1);
+            return;
+        }
+
+        URI base = URI.create(upstream);
+        StringBuilder rewritten = new StringBuilder();
+        for (String line : response.body().split("\r?\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                rewritten.append(line);
+            } else if (trimmed.startsWith("#")) {
+                Matcher matcher = URI_ATTRIBUTE.matcher(line);
+                StringBuilder replaced = new StringBuilder();
+                while (matcher.find()) {
+                    String proxied = proxify(base.resolve(matcher.group(1)).toString());
+                    matcher.appendReplacement(replaced, Matcher.quoteReplacement("URI=\"" + proxied + '"'));
+                }
+                matcher.appendTail(replaced);
+                rewritten.append(replaced);
+            } else {
+                rewritten.append(proxify(base.resolve(trimmed).toString()));
+            }
+            rewritten.append('\n');
+        }
+
+        byte[] payload = rewritten.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/vnd.apple.mpegurl");
+        exchange.sendResponseHeaders(200, payload.length);
+        exchange.getResponseBody().write(payload);
+    }
+
+    private HttpRequest.Builder upstreamRequest(String upstream) {
+        return HttpRequest.newBuilder()
+            .uri(URI.create(upstream))
+            .timeout(Duration.ofSeconds(20))
+            .GET();
+    }
+
+    private void writeChunk(Path path, byte[] data) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(tempFile, data);
+        try {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ignored) {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordChunk(path, data.length);
+    }
+
+    private synchronized void discardChunk(Path path) {
+        Long size = lru.remove(path);
+        if (size != null) {
+            cachedBytes -= size;
+        }
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(path.resolveSibling(path.getFileName() + ".tmp"));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private synchronized void touch(Path path) {
+        lru.get(path);
+    }
+
+    private synchronized void pin(Path path) {
+        pinnedChunks.merge(path, 1, Integer::sum);
+    }
+
+    private synchronized void unpin(Path path) {
+        pinnedChunks.computeIfPresent(path, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private synchronized void recordChunk(Path path, long size) {
+        Long previous = lru.put(path, size);
+        cachedBytes += size - (previous == null ? 0 : previous);
+
+        Iterator<Map.Entry<Path, Long>> iterator = lru.entrySet().iterator();
+        while (cachedBytes > MAX_CACHE_BYTES && iterator.hasNext()) {
+            Map.Entry<Path, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(path) || pinnedChunks.containsKey(eldest.getKey())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(eldest.getKey());
+            } catch (IOException ignored) {
+            }
+            cachedBytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    private synchronized void indexCacheDir() throws IOException {
+        lru.clear();
+        cachedBytes = 0;
+
+        List<Path> chunks = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(cacheDir, 2)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".bin")).forEach(chunks::add);
+        }
+        chunks.sort(Comparator.comparingLong(this::lastModified));
+        for (Path chunk : chunks) {
+            long size = Files.size(chunk);
+            lru.put(chunk, size);
+            cachedBytes += size;
+        }
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException ignored) {
+            return 0;
+        }
+    }
+
+    private Path chunkPath(String upstream, int chunkIndex) {
+        return resourceDir(upstream).resolve(chunkIndex + ".bin");
+    }
+
+    private Path resourceDir(String upstream) {
+        return cacheDir.resolve(sha1(upstream));
+    }
+
+    private String registeredUpstream(String rawPath) {
+        if (rawPath == null || !rawPath.startsWith(MEDIA_PREFIX)) {
+            return null;
+        }
+        String remainder = rawPath.substring(MEDIA_PREFIX.length());
+        int slash = remainder.indexOf('/');
+        String token = slash >= 0 ? remainder.substring(0, slash) : remainder;
+        return registeredUpstreams.getIfPresent(token);
+    }
+
+    private boolean isPlaylist(String upstream) {
+        return fileNameOf(upstream).toLowerCase(Locale.ROOT).endsWith(".m3u8");
+    }
+
+    private String fileNameOf(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            if (path != null) {
+                String name = path.substring(path.lastIndexOf('/') + 1).replaceAll("[^a-zA-Z0-9._-]", "_");
+                if (!name.isBlank()) {
+                    return name;
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        return "media";
+    }
+
+    private String sha1(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+
+    private record ResourceInfo(long totalLength, String contentType, boolean rangeSupported) {
+    }
+
+    private record ByteRange(long start, long end) {
+    }
+}
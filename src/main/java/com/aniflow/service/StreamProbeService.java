@@ -0,0 +1,138 @@
+package com.aniflow.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class StreamProbeService {
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+    private static final String PROBE_RANGE = "bytes=0-2047";
+    private static final int SNIFF_BYTES = 16;
+    private static final byte[] HLS_MAGIC = "#EXTM3U".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MP4_BOX = "ftyp".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FLV_MAGIC = "FLV".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EBML_MAGIC = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3};
+    private static final byte MPEG_TS_SYNC = 0x47;
+    private static final Comparator<ProbeResult> RANKING = Comparator
+        .comparing((ProbeResult result) -> !result.playable())
+        .thenComparing(result -> !result.reachable())
+        .thenComparingLong(ProbeResult::ttfbMs);
+
+    private final HttpClient httpClient;
+
+    public StreamProbeService() {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(PROBE_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    public ProbeSession probe(List<String> urls) {
+        CompletableFuture<ProbeResult> firstPlayable = new CompletableFuture<>();
+        List<CompletableFuture<ProbeResult>> probes = new ArrayList<>();
+        for (String url : urls) {
+            probes.add(probeOne(url).thenApply(result -> {
+                if (result.playable()) {
+                    firstPlayable.complete(result);
+                }
+                return result;
+            }));
+        }
+
+        CompletableFuture<List<ProbeResult>> ranked = CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> {
+                List<ProbeResult> results = new ArrayList<>(probes.stream().map(CompletableFuture::join).toList());
+                results.sort(RANKING);
+                firstPlayable.complete(null);
+                return results;
+            });
+        return new ProbeSession(firstPlayable, ranked);
+    }
+
+    private CompletableFuture<ProbeResult> probeOne(String url) {
+        long startedAt = System.nanoTime();
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(PROBE_TIMEOUT)
+                .header("Range", PROBE_RANGE)
+                .GET()
+                .build();
+        } catch (IllegalArgumentException ex) {
+            return CompletableFuture.completedFuture(ProbeResult.unreachable(url));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+            .thenApply(response -> {
+                long ttfbMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                String contentType = response.headers().firstValue("Content-Type").orElse("");
+                int status = response.statusCode();
+                boolean reachable = status >= 200 && status < 300;
+                boolean playable = reachable && (contentType.isBlank() ? sniffPlayable(response.body()) : isPlayableType(contentType));
+                closeQuietly(response.body());
+                return new ProbeResult(url, status, contentType, ttfbMs, reachable, playable);
+            })
+            .exceptionally(ex -> ProbeResult.unreachable(url));
+    }
+
+    private boolean isPlayableType(String contentType) {
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return !normalized.contains("text/html")
+            && !normalized.contains("json")
+            && !normalized.startsWith("image/");
+    }
+
+    private boolean sniffPlayable(InputStream body) {
+        byte[] head;
+        try {
+            head = body.readNBytes(SNIFF_BYTES);
+        } catch (IOException ex) {
+            return false;
+        }
+        return startsWith(head, 0, HLS_MAGIC)
+            || startsWith(head, 4, MP4_BOX)
+            || startsWith(head, 0, EBML_MAGIC)
+            || startsWith(head, 0, FLV_MAGIC)
+            || (head.length > 0 && head[0] == MPEG_TS_SYNC);
+    }
+
+    private boolean startsWith(byte[] data, int offset, byte[] signature) {
+        return data.length >= offset + signature.length
+            && Arrays.equals(data, offset, offset + signature.length, signature, 0, signature.length);
+    }
+
+    private void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (Exception ignored) {
+        }
+    }
+
+    public record ProbeResult(String url,
+                              int statusCode,
+                              String contentType,
+                              long ttfbMs,
+                              boolean reachable,
+                              boolean playable) {
+        static ProbeResult unreachable(String url) {
+            return new ProbeResult(url, -1, "", Long.MAX_VALUE, false, false);
+        }
+    }
+
+    public record ProbeSession(CompletableFuture<ProbeResult> firstPlayable,
+                               CompletableFuture<List<ProbeResult>> ranked) {
+    }
+}
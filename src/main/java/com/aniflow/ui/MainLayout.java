@@ -8,40 +8,52 @@ import com.aniflow.service.AnimeRepository;
 import com.aniflow.service.CastService;
 import com.aniflow.service.DownloadService;
 import com.aniflow.service.PlaybackProgressService;
+import com.aniflow.service.StreamCacheProxy;
+import com.aniflow.service.StreamProbeService;
 import com.aniflow.ui.components.DockButton;
+import com.aniflow.ui.components.PerformanceOverlay;
 import com.aniflow.ui.pages.HomePage;
 import com.aniflow.ui.pages.PlayerPage;
 import com.aniflow.ui.pages.ProfilePage;
 import com.aniflow.ui.pages.SearchPage;
+import com.aniflow.util.AnimationBudget;
 import com.aniflow.util.AnimationUtil;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class MainLayout extends BorderPane {
+    private static final Duration WARMUP_DELAY = Duration.seconds(2);
+    private static final KeyCombination OVERLAY_SHORTCUT = new KeyCodeCombination(KeyCode.P, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN);
+
     private final AppState state;
     private final StackPane contentHost = new StackPane();
     private final Map<Page, Node> pages = new EnumMap<>(Page.class);
+    private final Map<Page, Supplier<Node>> pageFactories = new EnumMap<>(Page.class);
     private final Map<Page, DockButton> navButtons = new EnumMap<>(Page.class);
+    private final PerformanceOverlay performanceOverlay = new PerformanceOverlay(this::visiblePage);
 
     private final Label largeTitle = new Label("Home");
     private final Label nowPlaying = new Label("No track playing");
     private final Label offlineChip = new Label();
 
-    private final HomePage homePage;
-    private final SearchPage searchPage;
-    private final PlayerPage playerPage;
-    private final ProfilePage profilePage;
     private boolean shutdownTriggered;
 
     public MainLayout(AppState state,
@@ -49,29 +61,96 @@ public class MainLayout extends BorderPane {
                       DownloadService downloadService,
                       CastService castService,
                       AnalyticsService analyticsService,
-                      PlaybackProgressService progressService) {
+                      PlaybackProgressService progressService,
+                      StreamProbeService probeService,
+                      StreamCacheProxy streamProxy) {
         this.state = state;
 
         getStyleClass().add("main-shell");
 
-        homePage = new HomePage(state, repository, this::openPlayerForAnime);
-        searchPage = new SearchPage(state, repository, this::openPlayerForAnime);
-        playerPage = new PlayerPage(state, repository, downloadService, castService, analyticsService, progressService, this::openPlayerForAnime);
-        profilePage = new ProfilePage(state);
-
-        pages.put(Page.HOME, homePage);
-        pages.put(Page.SEARCH, searchPage);
-        pages.put(Page.PLAYER, playerPage);
-        pages.put(Page.PROFILE, profilePage);
+        pageFactories.put(Page.HOME, () -> new HomePage(state, repository, this::openPlayerForAnime));
+        pageFactories.put(Page.SEARCH, () -> new SearchPage(state, repository, this::openPlayerForAnime));
+        pageFactories.put(Page.PLAYER, () -> new PlayerPage(state, repository, downloadService, castService, analyticsService, progressService, probeService, streamProxy, this::openPlayerForAnime));
+        pageFactories.put(Page.PROFILE, () -> new ProfilePage(state));
 
         setLeft(buildSidebar());
         setTop(buildTopBar());
-        setCenter(contentHost);
+        setCenter(buildCenter());
         setBottom(buildBottomBar());
 
-        contentHost.getChildren().setAll(homePage);
+        contentHost.getChildren().setAll(pageFor(state.getCurrentPage()));
 
         setupStateBindings();
+        setupIdleWarmup();
+        setupPerformanceOverlay();
+        setupAnimationBudget();
+    }
+
+    private Node pageFor(Page page) {
+        Node node = pages.get(page);
+        if (node == null) {
+            node = pageFactories.get(page).get();
+            pages.put(page, node);
+        }
+        if (node instanceof SearchPage searchPage) {
+            searchPage.activate();
+        }
+        return node;
+    }
+
+    private void setupIdleWarmup() {
+        sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (scene == null || state.isBatteryEfficientMode()) {
+                return;
+            }
+            PauseTransition idle = new PauseTransition(WARMUP_DELAY);
+            idle.setOnFinished(event -> warmUpNext());
+            idle.play();
+        });
+    }
+
+    private void warmUpNext() {
+        if (shutdownTriggered || state.isBatteryEfficientMode()) {
+            return;
+        }
+        for (Page page : Page.values()) {
+            if (!pages.containsKey(page)) {
+                pages.put(page, pageFactories.get(page).get());
+                Platform.runLater(this::warmUpNext);
+                return;
+            }
+        }
+    }
+
+    private void setupPerformanceOverlay() {
+        state.performanceOverlayProperty().addListener((obs, oldValue, enabled) -> performanceOverlay.setActive(enabled));
+        sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (oldScene != null) {
+                oldScene.getAccelerators().remove(OVERLAY_SHORTCUT);
+            }
+            if (scene != null) {
+                scene.getAccelerators().put(OVERLAY_SHORTCUT, () -> state.setPerformanceOverlay(!state.isPerformanceOverlay()));
+            }
+        });
+        performanceOverlay.setActive(state.isPerformanceOverlay());
+    }
+
+    private void setupAnimationBudget() {
+        AnimationBudget budget = AnimationBudget.global();
+        budget.setBatteryMode(state.isBatteryEfficientMode());
+        state.batteryEfficientModeProperty().addListener((obs, oldValue, enabled) -> budget.setBatteryMode(enabled));
+        sceneProperty().addListener((obs, oldScene, scene) -> budget.attach(scene));
+    }
+
+    private Node visiblePage() {
+        return contentHost.getChildren().isEmpty() ? null : contentHost.getChildren().get(contentHost.getChildren().size() - 1);
+    }
+
+    private StackPane buildCenter() {
+        StackPane center = new StackPane(contentHost, performanceOverlay);
+        StackPane.setAlignment(performanceOverlay, Pos.TOP_RIGHT);
+        StackPane.setMargin(performanceOverlay, new Insets(8, 16, 0, 0));
+        return center;
     }
 
     private VBox buildSidebar() {
@@ -143,7 +222,7 @@ public class MainLayout extends BorderPane {
 
     private void setupStateBindings() {
         state.currentPageProperty().addListener((obs, oldPage, newPage) -> {
-            Node next = pages.get(newPage);
+            Node next = newPage == null ? null : pageFor(newPage);
             if (next != null) {
                 AnimationUtil.switchPage(contentHost, next, state);
                 largeTitle.setText(titleFor(newPage));
@@ -184,7 +263,7 @@ public class MainLayout extends BorderPane {
         if (anime == null) {
             return;
         }
-        playerPage.openAnime(anime);
+        ((PlayerPage) pageFor(Page.PLAYER)).openAnime(anime);
         state.setCurrentPage(Page.PLAYER);
     }
 
@@ -193,6 +272,8 @@ public class MainLayout extends BorderPane {
             return;
         }
         shutdownTriggered = true;
-        playerPage.shutdown();
+        if (pages.get(Page.PLAYER) instanceof PlayerPage playerPage) {
+            playerPage.shutdown();
+        }
     }
 }
@@ -0,0 +1,198 @@
+package com.aniflow.ui.components;
+
+import com.aniflow.metrics.MetricsRegistry;
+import com.aniflow.util.AnimationBudget;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public class PerformanceOverlay extends VBox {
+    private static final Duration REFRESH_INTERVAL = Duration.millis(500);
+    private static final String HIT_RATIO_PREFIX = "cache.hit_ratio{cache=";
+    private static final long IDLE_GAP_NS = 250_000_000L;
+
+    private final Supplier<Node> currentPage;
+    private final Label pulseLabel = metricLabel();
+    private final Label layoutLabel = metricLabel();
+    private final Label nodesLabel = metricLabel();
+    private final Label imagesLabel = metricLabel();
+    private final Label cacheLabel = metricLabel();
+    private final Label requestsLabel = metricLabel();
+    private final Label animationLabel = metricLabel();
+    private final Label heapLabel = metricLabel();
+    private final Timeline refresher;
+    private final Runnable preLayoutListener = this::onPreLayout;
+    private final Runnable postLayoutListener = this::onPostLayout;
+
+    private Scene attachedScene;
+    private long layoutStartNs;
+    private long lastPulseNs;
+    private long intervalTotalNs;
+    private long intervalMaxNs;
+    private int intervalCount;
+    private long layoutTotalNs;
+    private long layoutMaxNs;
+    private int pulseCount;
+    private long windowStartNs;
+
+    public PerformanceOverlay(Supplier<Node> currentPage) {
+        this.currentPage = currentPage;
+
+        getStyleClass().add("perf-overlay");
+        setSpacing(2);
+        setMouseTransparent(true);
+        setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        setVisible(false);
+
+        Label title = new Label("Performance");
+        title.getStyleClass().add("perf-overlay-title");
+        getChildren().addAll(title, pulseLabel, layoutLabel, nodesLabel, imagesLabel, cacheLabel, requestsLabel, animationLabel, heapLabel);
+
+        refresher = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+        refresher.setCycleCount(Timeline.INDEFINITE);
+
+        sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (isVisible()) {
+                detachPulseListeners();
+                attachPulseListeners(scene);
+            }
+        });
+    }
+
+    public void setActive(boolean active) {
+        setVisible(active);
+        if (active) {
+            attachPulseListeners(getScene());
+            resetWindow();
+            refresh();
+            refresher.play();
+        } else {
+            refresher.stop();
+            detachPulseListeners();
+        }
+    }
+
+    private void attachPulseListeners(Scene scene) {
+        if (scene == null || attachedScene == scene) {
+            return;
+        }
+        scene.addPreLayoutPulseListener(preLayoutListener);
+        scene.addPostLayoutPulseListener(postLayoutListener);
+        attachedScene = scene;
+    }
+
+    private void detachPulseListeners() {
+        if (attachedScene != null) {
+            attachedScene.removePreLayoutPulseListener(preLayoutListener);
+            attachedScene.removePostLayoutPulseListener(postLayoutListener);
+            attachedScene = null;
+        }
+    }
+
+    private void onPreLayout() {
+        long now = System.nanoTime();
+        long interval = now - lastPulseNs;
+        if (lastPulseNs != 0 && interval <= IDLE_GAP_NS) {
+            intervalTotalNs += interval;
+            intervalMaxNs = Math.max(intervalMaxNs, interval);
+            intervalCount++;
+        }
+        lastPulseNs = now;
+        layoutStartNs = now;
+    }
+
+    private void onPostLayout() {
+        if (layoutStartNs == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - layoutStartNs;
+        layoutTotalNs += elapsed;
+        layoutMaxNs = Math.max(layoutMaxNs, elapsed);
+        pulseCount++;
+        layoutStartNs = 0;
+    }
+
+    private void resetWindow() {
+        layoutTotalNs = 0;
+        layoutMaxNs = 0;
+        pulseCount = 0;
+        intervalTotalNs = 0;
+        intervalMaxNs = 0;
+        intervalCount = 0;
+        windowStartNs = System.nanoTime();
+    }
+
+    private void refresh() {
+        double windowSec = Math.max(1e-3, (System.nanoTime() - windowStartNs) / 1e9);
+        double layoutAvgMs = pulseCount == 0 ? 0 : layoutTotalNs / 1e6 / pulseCount;
+        double intervalAvgMs = intervalCount == 0 ? 0 : intervalTotalNs / 1e6 / intervalCount;
+        pulseLabel.setText(String.format("pulse %.0f/s  pulse-to-pulse %.1f ms (max %.1f)", pulseCount / windowSec, intervalAvgMs, intervalMaxNs / 1e6));
+        layoutLabel.setText(String.format("css+layout %.2f ms (max %.2f)", layoutAvgMs, layoutMaxNs / 1e6));
+        resetWindow();
+
+        Node page = currentPage.get();
+        int nodes = 0;
+        long imageBytes = 0;
+        int imageCount = 0;
+        if (page != null) {
+            Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(page);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                nodes++;
+                if (node instanceof ImageView view && view.getImage() != null && images.add(view.getImage())) {
+                    imageBytes += (long) view.getImage().getWidth() * (long) view.getImage().getHeight() * 4;
+                }
+                if (node instanceof Parent parent) {
+                    parent.getChildrenUnmodifiable().forEach(pending::push);
+                }
+            }
+            imageCount = images.size();
+        }
+        nodesLabel.setText("nodes " + nodes);
+        imagesLabel.setText(String.format("images %d  ~%.1f MB decoded", imageCount, imageBytes / (1024.0 * 1024.0)));
+
+        Map<String, Double> gauges = MetricsRegistry.global().snapshot().gauges();
+        StringBuilder hits = new StringBuilder("cache hit");
+        gauges.forEach((name, value) -> {
+            if (name.startsWith(HIT_RATIO_PREFIX)) {
+                String cache = name.substring(HIT_RATIO_PREFIX.length(), name.length() - 1);
+                hits.append(' ').append(cache).append(' ').append(Math.round(value * 100)).append('%');
+            }
+        });
+        cacheLabel.setText(hits.toString());
+        requestsLabel.setText("in-flight requests " + gauges.getOrDefault("http.in_flight", 0.0).intValue());
+        animationLabel.setText(String.format("animations %d running  %s  frame %.1f ms",
+            gauges.getOrDefault("animation.running", 0.0).intValue(),
+            AnimationBudget.global().getQuality().name().toLowerCase(Locale.ROOT),
+            gauges.getOrDefault("animation.frame_ms", 0.0)));
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        heapLabel.setText("heap " + usedMb + " / " + runtime.maxMemory() / (1024 * 1024) + " MB");
+    }
+
+    private static Label metricLabel() {
+        Label label = new Label();
+        label.getStyleClass().add("perf-overlay-metric");
+        return label;
+    }
+}
@@ -1,6 +1,8 @@
 package com.aniflow.ui.pages;
 
 import com.aniflow.app.AppState;
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.MetricsRegistry;
 import com.aniflow.model.Anime;
 import com.aniflow.model.AnimeDetail;
 import com.aniflow.model.EpisodeInfo;
@@ -10,7 +12,10 @@ import com.aniflow.service.AnimeRepository;
 import com.aniflow.service.CastService;
 import com.aniflow.service.DownloadService;
 import com.aniflow.service.PlaybackProgressService;
+import com.aniflow.service.StreamCacheProxy;
+import com.aniflow.service.StreamProbeService;
 import com.jfoenix.controls.JFXSlider;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -42,12 +47,18 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class PlayerPage extends BorderPane {
     private static final String DEMO_STREAM_URL = "https://test-streams.mux.dev/x36xhzz/x36xhzz.m3u8";
     private static final int PROGRESS_TICK_SECONDS = 5;
     private static final int MIN_RESUME_SECONDS = 5;
+    private static final int PRELOAD_LEAD_SECONDS = 30;
+    private static final Counter PRELOAD_FAILURES = MetricsRegistry.global().counter("player.preload_failures");
+    private static final int HUD_MAX_FPS = Math.max(1, Integer.getInteger("aniflow.hud.fps", 4));
+    private static final long HUD_FRAME_INTERVAL_NS = 1_000_000_000L / HUD_MAX_FPS;
 
     private final AppState state;
     private final AnimeRepository repository;
@@ -55,6 +66,8 @@ public class PlayerPage extends BorderPane {
     private final CastService castService;
     private final AnalyticsService analyticsService;
     private final PlaybackProgressService progressService;
+    private final StreamProbeService probeService;
+    private final StreamCacheProxy streamProxy;
     private final Consumer<Anime> onOpenAnime;
 
     private final MediaView mediaView = new MediaView();
@@ -70,6 +83,18 @@ public class PlayerPage extends BorderPane {
     private final Button playPauseButton = new Button("Play");
     private final Button prevEpisodeButton = new Button("Prev");
     private final Button nextEpisodeButton = new Button("Next");
+    private final char[] timeBuffer = new char[32];
+    private final AnimationTimer hudTimer = new AnimationTimer() {
+        private long lastFrameNs;
+
+        @Override
+        public void handle(long now) {
+            if (now - lastFrameNs >= HUD_FRAME_INTERVAL_NS) {
+                lastFrameNs = now;
+                refreshHud();
+            }
+        }
+    };
 
     private MediaPlayer mediaPlayer;
     private Anime currentAnime;
@@ -84,6 +109,11 @@ public class PlayerPage extends BorderPane {
     private int lastProgressTickBucket = -1;
     private String pendingResumeEpisodeSlug;
     private int pendingResumeSec = -1;
+    private MediaPlayer preloadedPlayer;
+    private PreloadPlan preloadedPlan;
+    private String preloadTargetSlug;
+    private int shownCurrentSec = Integer.MIN_VALUE;
+    private int shownTotalSec = Integer.MIN_VALUE;
 
     public PlayerPage(AppState state,
                       AnimeRepository repository,
@@ -91,6 +121,8 @@ public class PlayerPage extends BorderPane {
                       CastService castService,
                       AnalyticsService analyticsService,
                       PlaybackProgressService progressService,
+                      StreamProbeService probeService,
+                      StreamCacheProxy streamProxy,
                       Consumer<Anime> onOpenAnime) {
         this.state = state;
         this.repository = repository;
@@ -98,6 +130,8 @@ public class PlayerPage extends BorderPane {
         this.castService = castService;
         this.analyticsService = analyticsService;
         this.progressService = progressService;
+        this.probeService = probeService;
+        this.streamProxy = streamProxy;
         this.onOpenAnime = onOpenAnime;
 
         getStyleClass().add("page-player");
@@ -115,6 +149,7 @@ public class PlayerPage extends BorderPane {
         }
 
         saveProgressSnapshot("exit");
+        discardPreload();
 
         long requestId = ++detailRequestSerial;
         episodeRequestSerial++;
@@ -316,11 +351,17 @@ public class PlayerPage extends BorderPane {
             return;
         }
 
+        saveProgressSnapshot("switch");
+        discardPreload();
+        disposeMedia();
+
         long requestId = ++episodeRequestSerial;
         currentEpisode = episode;
         currentStream = null;
         streamCandidates.clear();
         activeStreamIndex = -1;
+        resetProgressTrackingState();
+        preparePendingResume(episode);
         updateEpisodeNavigationState();
 
         if (episodeSelector.getValue() != episode) {
@@ -337,7 +378,7 @@ public class PlayerPage extends BorderPane {
 
                 currentStream = stream;
                 prepareStreamCandidates(stream);
-                playCurrentCandidate();
+                startWithFastestCandidate(requestId);
                 updateEpisodeNavigationState();
 
                 if (stream != null && stream.getNextEpisodeSlug() != null) {
@@ -378,19 +419,74 @@ public class PlayerPage extends BorderPane {
 
     private void prepareStreamCandidates(EpisodeStream stream) {
         streamCandidates.clear();
+        streamCandidates.addAll(collectCandidates(stream));
+        if (streamCandidates.isEmpty()) {
+            statusLabel.setText("Stream API kosong, fallback ke demo stream.");
+            streamCandidates.add(DEMO_STREAM_URL);
+        }
+        activeStreamIndex = 0;
+    }
+
+    private List<String> collectCandidates(EpisodeStream stream) {
+        LinkedHashSet<String> candidates = new LinkedHashSet<>();
         if (stream != null) {
-            streamCandidates.addAll(normalizeUrls(stream.getStreamingUrls()));
+            candidates.addAll(normalizeUrls(stream.getStreamingUrls()));
             for (List<String> urls : stream.getDownloadUrls().values()) {
-                streamCandidates.addAll(normalizeUrls(urls));
+                candidates.addAll(normalizeUrls(urls));
             }
         }
+        return new ArrayList<>(candidates);
+    }
 
-        streamCandidates.removeIf(url -> url == null || url.isBlank());
-        if (streamCandidates.isEmpty()) {
-            statusLabel.setText("Stream API kosong, fallback ke demo stream.");
-            streamCandidates.add(DEMO_STREAM_URL);
+    private void startWithFastestCandidate(long requestId) {
+        if (streamCandidates.size() <= 1) {
+            playCurrentCandidate();
+            return;
+        }
+
+        activeStreamIndex = -1;
+        statusLabel.setText("Menguji " + streamCandidates.size() + " sumber stream...");
+
+        StreamProbeService.ProbeSession session = probeService.probe(List.copyOf(streamCandidates));
+        session.firstPlayable().thenAccept(result -> Platform.runLater(() -> {
+            if (result == null || requestId != episodeRequestSerial || activeStreamIndex >= 0) {
+                return;
+            }
+            streamCandidates.remove(result.url());
+            streamCandidates.add(0, result.url());
+            activeStreamIndex = 0;
+            playCurrentCandidate();
+        }));
+        session.ranked().thenAccept(ranked -> Platform.runLater(() -> {
+            if (requestId != episodeRequestSerial) {
+                return;
+            }
+            applyProbeRanking(ranked);
+        }));
+    }
+
+    private void applyProbeRanking(List<StreamProbeService.ProbeResult> ranked) {
+        List<String> ordered = new ArrayList<>();
+        if (activeStreamIndex >= 0) {
+            ordered.addAll(streamCandidates.subList(0, activeStreamIndex + 1));
+        }
+        ranked.forEach(result -> {
+            if (!ordered.contains(result.url()) && streamCandidates.contains(result.url())) {
+                ordered.add(result.url());
+            }
+        });
+        streamCandidates.forEach(url -> {
+            if (!ordered.contains(url)) {
+                ordered.add(url);
+            }
+        });
+
+        streamCandidates.clear();
+        streamCandidates.addAll(ordered);
+        if (activeStreamIndex < 0) {
+            activeStreamIndex = 0;
+            playCurrentCandidate();
         }
-        activeStreamIndex = 0;
     }
 
     private List<String> normalizeUrls(List<String> urls) {
@@ -432,36 +528,171 @@ public class PlayerPage extends BorderPane {
         }
 
         try {
-            Media media = new Media(url);
-            mediaPlayer = new MediaPlayer(media);
-            mediaView.setMediaPlayer(mediaPlayer);
-            videoPlaceholder.setVisible(false);
-
-            mediaPlayer.setOnReady(() -> {
-                Duration total = mediaPlayer.getTotalDuration();
-                timeline.setMax(Math.max(1, total.toSeconds()));
-                timeline.setValue(0);
-                updateTime();
-                analyticsService.startWatchSession();
-                updatePlayPauseButtonLabel();
-                mediaPlayer.play();
+            MediaPlayer player = new MediaPlayer(new Media(streamProxy.proxify(url)));
+            attachPlayer(player);
+            player.setOnReady(() -> onPlayerReady(player));
+        } catch (Exception ex) {
+            handleMediaError(ex.getMessage());
+        }
+    }
+
+    private void attachPlayer(MediaPlayer player) {
+        mediaPlayer = player;
+        mediaView.setMediaPlayer(player);
+        videoPlaceholder.setVisible(false);
+
+        player.setOnPlaying(() -> {
+            updatePlayPauseButtonLabel();
+            hudTimer.start();
+        });
+        player.setOnPaused(() -> {
+            hudTimer.stop();
+            refreshHud();
+            updatePlayPauseButtonLabel();
+            saveProgressSnapshot("pause");
+        });
+        player.setOnStopped(() -> {
+            hudTimer.stop();
+            updatePlayPauseButtonLabel();
+        });
+        player.setOnEndOfMedia(this::onMediaEnded);
+        player.setOnError(() -> handleMediaError(player.getError() == null ? null : player.getError().getMessage()));
+    }
+
+    private void onPlayerReady(MediaPlayer player) {
+        if (player != mediaPlayer) {
+            return;
+        }
+
+        Duration total = player.getTotalDuration();
+        timeline.setMax(Math.max(1, total.toSeconds()));
+        timeline.setValue(0);
+        applyPendingResume(total);
+        updateTime();
+        analyticsService.startWatchSession();
+        updatePlayPauseButtonLabel();
+        player.play();
+    }
+
+    private void maybePreloadNextEpisode(Duration current) {
+        if (mediaPlayer == null || currentStream == null) {
+            return;
+        }
+
+        String nextSlug = currentStream.getNextEpisodeSlug();
+        if (nextSlug != null && nextSlug.equals(preloadTargetSlug)) {
+            return;
+        }
+        Duration total = mediaPlayer.getTotalDuration();
+        if (nextSlug == null || nextSlug.isBlank() || total == null || total.isUnknown() || total.isIndefinite()) {
+            return;
+        }
+        if (total.toSeconds() - current.toSeconds() > PRELOAD_LEAD_SECONDS) {
+            return;
+        }
+
+        preloadTargetSlug = nextSlug;
+        long requestId = episodeRequestSerial;
+        repository.getEpisodeStream(nextSlug)
+            .thenCompose(stream -> {
+                List<String> candidates = collectCandidates(stream);
+                if (candidates.isEmpty()) {
+                    return CompletableFuture.completedFuture(new PreloadPlan(stream, List.of()));
+                }
+                return probeService.probe(candidates).ranked().thenApply(ranked -> new PreloadPlan(
+                    stream,
+                    ranked.stream()
+                        .filter(StreamProbeService.ProbeResult::playable)
+                        .map(StreamProbeService.ProbeResult::url)
+                        .toList()
+                ));
+            })
+            .thenAccept(plan -> Platform.runLater(() -> {
+                if (requestId != episodeRequestSerial || plan.candidates().isEmpty()) {
+                    return;
+                }
+                startPreload(plan);
+            }))
+            .exceptionally(error -> {
+                PRELOAD_FAILURES.increment();
+                return null;
             });
+    }
 
-            mediaPlayer.currentTimeProperty().addListener((obs, oldValue, newValue) -> {
-                if (!timeline.isValueChanging()) {
-                    timeline.setValue(newValue.toSeconds());
+    private void startPreload(PreloadPlan plan) {
+        discardPreloadedPlayer();
+        try {
+            MediaPlayer player = new MediaPlayer(new Media(streamProxy.proxify(plan.candidates().get(0))));
+            player.setOnError(() -> {
+                if (preloadedPlayer == player) {
+                    PRELOAD_FAILURES.increment();
+                    discardPreloadedPlayer();
                 }
-                updateTime();
             });
+            preloadedPlayer = player;
+            preloadedPlan = plan;
+        } catch (Exception ignored) {
+            PRELOAD_FAILURES.increment();
+            discardPreloadedPlayer();
+        }
+    }
 
-            mediaPlayer.setOnPlaying(this::updatePlayPauseButtonLabel);
-            mediaPlayer.setOnPaused(this::updatePlayPauseButtonLabel);
-            mediaPlayer.setOnStopped(this::updatePlayPauseButtonLabel);
-            mediaPlayer.setOnEndOfMedia(this::onMediaEnded);
+    private boolean switchToPreloadedEpisode() {
+        MediaPlayer next = preloadedPlayer;
+        PreloadPlan plan = preloadedPlan;
+        if (next == null
+            || plan == null
+            || next.getStatus() == MediaPlayer.Status.HALTED
+            || currentStream == null
+            || !Objects.equals(plan.stream().getEpisodeSlug(), currentStream.getNextEpisodeSlug())) {
+            return false;
+        }
+        preloadedPlayer = null;
+        preloadedPlan = null;
+        preloadTargetSlug = null;
 
-            mediaPlayer.setOnError(() -> handleMediaError(mediaPlayer.getError() == null ? null : mediaPlayer.getError().getMessage()));
-        } catch (Exception ex) {
-            handleMediaError(ex.getMessage());
+        EpisodeStream stream = plan.stream();
+        EpisodeInfo episode = currentEpisodes.stream()
+            .filter(ep -> Objects.equals(ep.getSlug(), stream.getEpisodeSlug()))
+            .findFirst()
+            .orElseGet(() -> new EpisodeInfo(0, stream.getTitle(), stream.getEpisodeSlug(), "", ""));
+
+        disposeMedia();
+        episodeRequestSerial++;
+        currentEpisode = episode;
+        currentStream = stream;
+        streamCandidates.clear();
+        streamCandidates.addAll(plan.candidates());
+        activeStreamIndex = 0;
+        resetProgressTrackingState();
+        preparePendingResume(episode);
+        selectEpisodeSilently(episode);
+        updateEpisodeNavigationState();
+
+        attachPlayer(next);
+        statusLabel.setText("Playing: " + episode.getTitle());
+        if (next.getStatus() == MediaPlayer.Status.READY) {
+            onPlayerReady(next);
+        } else {
+            next.setOnReady(() -> onPlayerReady(next));
+        }
+
+        if (stream.getNextEpisodeSlug() != null) {
+            repository.prefetchNextEpisode(stream.getNextEpisodeSlug());
+        }
+        return true;
+    }
+
+    private void discardPreload() {
+        preloadTargetSlug = null;
+        discardPreloadedPlayer();
+    }
+
+    private void discardPreloadedPlayer() {
+        preloadedPlan = null;
+        if (preloadedPlayer != null) {
+            preloadedPlayer.dispose();
+            preloadedPlayer = null;
         }
     }
 
@@ -547,31 +778,71 @@ public class PlayerPage extends BorderPane {
         }
     }
 
-    private void updateTime() {
+    private void refreshHud() {
         if (mediaPlayer == null) {
-            timeLabel.setText("00:00 / 00:00");
             return;
         }
 
         Duration current = mediaPlayer.getCurrentTime();
-        Duration total = mediaPlayer.getTotalDuration();
+        if (!timeline.isValueChanging()) {
+            timeline.setValue(current.toSeconds());
+        }
+        updateTime();
+        onProgressTick(current);
+        maybePreloadNextEpisode(current);
+    }
 
-        String currentText = formatDuration(current);
-        String totalText = total != null && !total.isUnknown() ? formatDuration(total) : "--:--";
-        timeLabel.setText(currentText + " / " + totalText);
+    private void updateTime() {
+        int currentSec = mediaPlayer == null ? 0 : wholeSeconds(mediaPlayer.getCurrentTime());
+        int totalSec = mediaPlayer == null ? 0 : wholeSeconds(mediaPlayer.getTotalDuration());
+        if (currentSec == shownCurrentSec && totalSec == shownTotalSec) {
+            return;
+        }
+        shownCurrentSec = currentSec;
+        shownTotalSec = totalSec;
+
+        int length = writeClock(timeBuffer, 0, currentSec);
+        timeBuffer[length++] = ' ';
+        timeBuffer[length++] = '/';
+        timeBuffer[length++] = ' ';
+        length = writeClock(timeBuffer, length, totalSec);
+        timeLabel.setText(new String(timeBuffer, 0, length));
     }
 
     private String formatDuration(Duration duration) {
-        if (duration == null || duration.isUnknown() || duration.lessThan(Duration.ZERO)) {
-            return "--:--";
+        int length = writeClock(timeBuffer, 0, wholeSeconds(duration));
+        return new String(timeBuffer, 0, length);
+    }
+
+    private int wholeSeconds(Duration duration) {
+        if (duration == null || duration.isUnknown() || duration.isIndefinite() || duration.lessThan(Duration.ZERO)) {
+            return -1;
         }
-        int seconds = (int) Math.floor(duration.toSeconds());
+        return (int) duration.toSeconds();
+    }
+
+    private int writeClock(char[] buffer, int offset, int seconds) {
+        if (seconds < 0) {
+            "--:--".getChars(0, 5, buffer, offset);
+            return offset + 5;
+        }
+
         int minutes = seconds / 60;
         int remain = seconds % 60;
-        return String.format("%02d:%02d", minutes, remain);
+        int digits = minutes < 100 ? 2 : (int) Math.log10(minutes) + 1;
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[offset + i] = (char) ('0' + minutes % 10);
+            minutes /= 10;
+        }
+        offset += digits;
+        buffer[offset++] = ':';
+        buffer[offset++] = (char) ('0' + remain / 10);
+        buffer[offset++] = (char) ('0' + remain % 10);
+        return offset;
     }
 
     private void disposeMedia() {
+        hudTimer.stop();
         if (mediaPlayer != null) {
             mediaPlayer.stop();
             mediaPlayer.dispose();
@@ -613,10 +884,14 @@ public class PlayerPage extends BorderPane {
     }
 
     private void onMediaEnded() {
+        hudTimer.stop();
+        saveProgressSnapshot("ended");
         if (currentStream != null
             && currentStream.getNextEpisodeSlug() != null
             && !currentStream.getNextEpisodeSlug().isBlank()) {
-            navigateEpisode(true);
+            if (!switchToPreloadedEpisode()) {
+                navigateEpisode(true);
+            }
             return;
         }
         statusLabel.setText("Episode selesai");
@@ -645,6 +920,93 @@ public class PlayerPage extends BorderPane {
         statusLabel.setText("Playback gagal: " + safeMessage);
     }
 
+    private void selectEpisodeSilently(EpisodeInfo episode) {
+        suppressEpisodeSelectorEvent = true;
+        try {
+            episodeSelector.getSelectionModel().select(episode);
+        } finally {
+            suppressEpisodeSelectorEvent = false;
+        }
+    }
+
+    private void resetProgressTrackingState() {
+        lastProgressTickBucket = -1;
+        pendingResumeEpisodeSlug = null;
+        pendingResumeSec = -1;
+    }
+
+    private void preparePendingResume(EpisodeInfo episode) {
+        if (currentAnime == null || episode == null) {
+            return;
+        }
+
+        progressService.getEpisodeProgress(currentAnime.getSlug(), episode.getSlug()).ifPresent(progress -> {
+            boolean finished = progress.durationSec() > 0 && progress.currentTimeSec() >= progress.durationSec() - MIN_RESUME_SECONDS;
+            if (!finished && progress.currentTimeSec() >= MIN_RESUME_SECONDS) {
+                pendingResumeEpisodeSlug = episode.getSlug();
+                pendingResumeSec = progress.currentTimeSec();
+            }
+        });
+    }
+
+    private void applyPendingResume(Duration total) {
+        if (mediaPlayer == null
+            || currentEpisode == null
+            || pendingResumeSec < MIN_RESUME_SECONDS
+            || !currentEpisode.getSlug().equals(pendingResumeEpisodeSlug)) {
+            return;
+        }
+
+        if (total == null || total.isUnknown() || pendingResumeSec < total.toSeconds()) {
+            mediaPlayer.seek(Duration.seconds(pendingResumeSec));
+            timeline.setValue(pendingResumeSec);
+            statusLabel.setText("Melanjutkan dari " + formatDuration(Duration.seconds(pendingResumeSec)));
+        }
+        pendingResumeEpisodeSlug = null;
+        pendingResumeSec = -1;
+    }
+
+    private void onProgressTick(Duration current) {
+        if (current == null || current.isUnknown()) {
+            return;
+        }
+
+        int bucket = (int) (current.toSeconds() / PROGRESS_TICK_SECONDS);
+        if (bucket != lastProgressTickBucket) {
+            lastProgressTickBucket = bucket;
+            saveProgressSnapshot("tick");
+        }
+    }
+
+    private void saveProgressSnapshot(String reason) {
+        if (mediaPlayer == null || currentAnime == null || currentEpisode == null) {
+            return;
+        }
+
+        Duration current = mediaPlayer.getCurrentTime();
+        if (current == null || current.isUnknown()) {
+            return;
+        }
+
+        Duration total = mediaPlayer.getTotalDuration();
+        Integer durationSec = total == null || total.isUnknown() ? null : (int) total.toSeconds();
+        progressService.saveProgress(
+            currentAnime.getSlug(),
+            currentEpisode.getSlug(),
+            (int) current.toSeconds(),
+            durationSec,
+            reason
+        );
+    }
+
+    public void shutdown() {
+        saveProgressSnapshot("exit");
+        episodeRequestSerial++;
+        detailRequestSerial++;
+        discardPreload();
+        disposeMedia();
+    }
+
     private void updateEpisodeNavigationState() {
         boolean hasPrev = currentStream != null
             && currentStream.getPrevEpisodeSlug() != null
@@ -687,4 +1049,7 @@ public class PlayerPage extends BorderPane {
         alert.setContentText(text);
         alert.show();
     }
+
+    private record PreloadPlan(EpisodeStream stream, List<String> candidates) {
+    }
 }
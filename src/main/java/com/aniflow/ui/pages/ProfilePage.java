@@ -3,6 +3,7 @@ package com.aniflow.ui.pages;
 import com.aniflow.app.AppState;
 import com.aniflow.model.Anime;
 import com.jfoenix.controls.JFXToggleButton;
+import javafx.beans.property.BooleanProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -66,19 +67,30 @@ public class ProfilePage extends VBox {
         HBox darkRow = toggleRow("Dark mode", state.isDarkMode(), state::setDarkMode);
         HBox batteryRow = toggleRow("Battery efficient mode", state.isBatteryEfficientMode(), state::setBatteryEfficientMode);
         HBox autoDlRow = toggleRow("Auto-download episode baru", state.isAutoDownloadNewEpisode(), state::setAutoDownloadNewEpisode);
+        HBox overlayRow = toggleRow("Performance overlay (Ctrl+Shift+P)", state.performanceOverlayProperty());
 
-        box.getChildren().addAll(title, darkRow, batteryRow, autoDlRow);
+        box.getChildren().addAll(title, darkRow, batteryRow, autoDlRow, overlayRow);
         return box;
     }
 
     private HBox toggleRow(String labelText, boolean selected, java.util.function.Consumer<Boolean> consumer) {
+        JFXToggleButton toggle = new JFXToggleButton();
+        toggle.setSelected(selected);
+        toggle.selectedProperty().addListener((obs, oldValue, newValue) -> consumer.accept(newValue));
+        return toggleRow(labelText, toggle);
+    }
+
+    private HBox toggleRow(String labelText, BooleanProperty property) {
+        JFXToggleButton toggle = new JFXToggleButton();
+        toggle.selectedProperty().bindBidirectional(property);
+        return toggleRow(labelText, toggle);
+    }
+
+    private HBox toggleRow(String labelText, JFXToggleButton toggle) {
         HBox row = new HBox(12);
         row.setAlignment(Pos.CENTER_LEFT);
 
         Label label = new Label(labelText);
-        JFXToggleButton toggle = new JFXToggleButton();
-        toggle.setSelected(selected);
-        toggle.selectedProperty().addListener((obs, oldValue, newValue) -> consumer.accept(newValue));
 
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
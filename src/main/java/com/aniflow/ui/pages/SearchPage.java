@@ -6,9 +6,9 @@ import com.aniflow.model.AnimeDetail;
 import com.aniflow.model.Genre;
 import com.aniflow.model.SearchFilter;
 import com.aniflow.service.AnimeRepository;
+import com.aniflow.service.SearchStream;
 import com.aniflow.ui.components.AnimeCard;
 import com.aniflow.ui.components.GlassSearchBar;
-import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -21,12 +21,15 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.util.Duration;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 
 public class SearchPage extends StackPane {
+    private static final Duration NETWORK_DEBOUNCE = Duration.ofMillis(300);
+    private static final int PREFETCH_LIMIT = 8;
+
     private final AppState state;
     private final AnimeRepository repository;
     private final Consumer<Anime> onPlay;
@@ -37,7 +40,11 @@ public class SearchPage extends StackPane {
     private final ComboBox<String> statusFilter;
     private final FlowPane resultGrid;
     private final ProgressIndicator loading;
-    private final PauseTransition debounce;
+    private boolean activated;
+    private SearchStream activeStream;
+    private long renderToken;
+    private boolean pendingReset;
+    private int prefetched;
 
     public SearchPage(AppState state, AnimeRepository repository, Consumer<Anime> onPlay) {
         this.state = state;
@@ -74,11 +81,7 @@ public class SearchPage extends StackPane {
         loading.getStyleClass().add("ios-spinner");
         loading.setVisible(false);
 
-        debounce = new PauseTransition(Duration.millis(300));
-        debounce.setOnFinished(event -> runSearch());
-
         setupSearchEvents();
-        loadGenres();
 
         getChildren().addAll(content, loading);
         StackPane.setAlignment(loading, Pos.CENTER);
@@ -87,8 +90,15 @@ public class SearchPage extends StackPane {
             double w = newValue.doubleValue();
             resultGrid.setPrefWrapLength(w < 1000 ? 660 : 980);
         });
+    }
 
-        runSearch();
+    public void activate() {
+        if (activated) {
+            return;
+        }
+        activated = true;
+        loadGenres();
+        runSearch(Duration.ZERO);
     }
 
     private ComboBox<String> makeChipCombo(String prompt, String defaultValue, String... values) {
@@ -96,7 +106,7 @@ public class SearchPage extends StackPane {
         combo.setPromptText(prompt);
         combo.setValue(defaultValue);
         combo.getStyleClass().add("chip-filter");
-        combo.setOnAction(event -> runSearch());
+        combo.setOnAction(event -> runSearch(Duration.ZERO));
         return combo;
     }
 
@@ -111,39 +121,59 @@ public class SearchPage extends StackPane {
     }
 
     private void setupSearchEvents() {
-        searchBar.getTextField().textProperty().addListener((obs, oldValue, newValue) -> debounce.playFromStart());
-        searchBar.getTextField().setOnAction(event -> runSearch());
+        searchBar.getTextField().textProperty().addListener((obs, oldValue, newValue) -> runSearch(NETWORK_DEBOUNCE));
+        searchBar.getTextField().setOnAction(event -> runSearch(Duration.ZERO));
     }
 
-    private void runSearch() {
-        String query = searchBar.getTextField().getText();
-        SearchFilter filter = new SearchFilter(genreFilter.getValue(), seasonFilter.getValue(), statusFilter.getValue());
+    private SearchFilter currentFilter() {
+        return new SearchFilter(genreFilter.getValue(), seasonFilter.getValue(), statusFilter.getValue());
+    }
+
+    private void runSearch(Duration networkDelay) {
+        if (activeStream != null) {
+            activeStream.cancel();
+        }
 
+        pendingReset = true;
+        prefetched = 0;
         loading.setVisible(true);
-        repository.search(query, filter)
-            .thenAccept(list -> Platform.runLater(() -> {
-                renderResults(list);
-                loading.setVisible(false);
+        activeStream = repository.streamSearch(searchBar.getTextField().getText(), currentFilter(), networkDelay,
+            batch -> Platform.runLater(() -> {
+                if (batch.token() == renderToken) {
+                    applyBatch(batch);
+                }
             }));
+        renderToken = activeStream.token();
     }
 
-    private void renderResults(List<Anime> data) {
-        resultGrid.getChildren().clear();
-        if (data == null || data.isEmpty()) {
-            Label empty = new Label("Tidak ada hasil");
-            empty.getStyleClass().add("subtle-text");
-            resultGrid.getChildren().add(empty);
-            return;
+    private void applyBatch(SearchStream.Batch batch) {
+        if (pendingReset) {
+            resultGrid.getChildren().clear();
+            pendingReset = false;
         }
 
-        data.forEach(anime -> {
+        batch.items().forEach(anime -> {
             AnimeCard card = new AnimeCard(anime, state, true);
             card.setOnMouseEntered(event -> previewDetail(card, anime));
             card.setOnMouseClicked(event -> onPlay.accept(anime));
             resultGrid.getChildren().add(card);
         });
 
-        data.stream().limit(8).forEach(anime -> repository.prefetchDetail(anime.getSlug()));
+        if (batch.source() != SearchStream.Source.LOCAL) {
+            batch.items().stream()
+                .limit(Math.max(0, PREFETCH_LIMIT - prefetched))
+                .forEach(anime -> {
+                    repository.prefetchDetail(anime.getSlug());
+                    prefetched++;
+                });
+        }
+
+        if (batch.complete() && batch.totalSoFar() == 0) {
+            Label empty = new Label("Tidak ada hasil");
+            empty.getStyleClass().add("subtle-text");
+            resultGrid.getChildren().add(empty);
+        }
+        loading.setVisible(!batch.complete() && batch.totalSoFar() == 0);
     }
 
     private void previewDetail(AnimeCard card, Anime anime) {
@@ -0,0 +1,149 @@
+package com.aniflow.util;
+
+import com.aniflow.metrics.MetricsRegistry;
+import javafx.animation.Animation;
+import javafx.animation.ScaleTransition;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.util.Duration;
+
+import java.util.concurrent.TimeUnit;
+
+public final class AnimationBudget {
+    public enum Quality {
+        FULL,
+        REDUCED,
+        MINIMAL
+    }
+
+    private static final AnimationBudget GLOBAL = new AnimationBudget();
+    private static final String SCALE_TRANSITION_KEY = "aniflow.animation.scale";
+    private static final int MAX_RUNNING = 16;
+    private static final int MAX_RUNNING_REDUCED = 6;
+    private static final double TARGET_FRAME_MS = 1000.0 / 60.0;
+    private static final double DEGRADE_FRAME_MS = 25.0;
+    private static final double IDLE_GAP_MS = 250.0;
+    private static final double FRAME_SMOOTHING = 0.1;
+    private static final int DEGRADE_AFTER_FRAMES = 30;
+    private static final long RECOVERY_PROBE_NS = TimeUnit.SECONDS.toNanos(15);
+
+    private final ReadOnlyObjectWrapper<Quality> quality = new ReadOnlyObjectWrapper<>(this, "quality", Quality.FULL);
+    private final Runnable pulseListener = this::onPulse;
+
+    private Scene attachedScene;
+    private boolean batteryMode;
+    private Quality measured = Quality.FULL;
+    private int running;
+    private long lastPulseNs;
+    private long degradedAtNs;
+    private double frameMs = TARGET_FRAME_MS;
+    private int slowFrames;
+
+    private AnimationBudget() {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.gauge("animation.running", () -> running);
+        metrics.gauge("animation.frame_ms", () -> frameMs);
+        metrics.gauge("animation.quality", () -> quality.get().ordinal());
+    }
+
+    public static AnimationBudget global() {
+        return GLOBAL;
+    }
+
+    public ReadOnlyObjectProperty<Quality> qualityProperty() {
+        return quality.getReadOnlyProperty();
+    }
+
+    public Quality getQuality() {
+        return quality.get();
+    }
+
+    public void setBatteryMode(boolean enabled) {
+        batteryMode = enabled;
+        updateQuality();
+    }
+
+    public void attach(Scene scene) {
+        if (attachedScene == scene) {
+            return;
+        }
+        if (attachedScene != null) {
+            attachedScene.removePostLayoutPulseListener(pulseListener);
+        }
+        attachedScene = scene;
+        lastPulseNs = 0;
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(pulseListener);
+        }
+    }
+
+    public boolean admit() {
+        Quality current = quality.get();
+        if (current == Quality.MINIMAL) {
+            return false;
+        }
+        return running < (current == Quality.FULL ? MAX_RUNNING : MAX_RUNNING_REDUCED);
+    }
+
+    public void track(Animation animation) {
+        animation.statusProperty().addListener((obs, oldStatus, status) -> {
+            if (status == Animation.Status.RUNNING) {
+                running++;
+            } else if (oldStatus == Animation.Status.RUNNING) {
+                running = Math.max(0, running - 1);
+            }
+        });
+    }
+
+    public void scaleTo(Node node, double target, Duration duration) {
+        ScaleTransition transition = (ScaleTransition) node.getProperties().get(SCALE_TRANSITION_KEY);
+        if (transition == null) {
+            transition = new ScaleTransition();
+            transition.setNode(node);
+            track(transition);
+            node.getProperties().put(SCALE_TRANSITION_KEY, transition);
+        }
+
+        transition.stop();
+        if (!admit()) {
+            node.setScaleX(target);
+            node.setScaleY(target);
+            return;
+        }
+        transition.setDuration(duration);
+        transition.setToX(target);
+        transition.setToY(target);
+        transition.playFromStart();
+    }
+
+    private void onPulse() {
+        long now = System.nanoTime();
+        if (lastPulseNs != 0 && running > 0) {
+            double elapsedMs = (now - lastPulseNs) / 1e6;
+            if (elapsedMs < IDLE_GAP_MS) {
+                frameMs += (elapsedMs - frameMs) * FRAME_SMOOTHING;
+                slowFrames = frameMs > DEGRADE_FRAME_MS ? slowFrames + 1 : 0;
+                if (slowFrames >= DEGRADE_AFTER_FRAMES && measured != Quality.MINIMAL) {
+                    measured = Quality.values()[measured.ordinal() + 1];
+                    degradedAtNs = now;
+                    slowFrames = 0;
+                    frameMs = TARGET_FRAME_MS;
+                    updateQuality();
+                }
+            }
+        }
+        if (measured != Quality.FULL && now - degradedAtNs > RECOVERY_PROBE_NS) {
+            measured = Quality.values()[measured.ordinal() - 1];
+            degradedAtNs = now;
+            updateQuality();
+        }
+        lastPulseNs = now;
+    }
+
+    private void updateQuality() {
+        Quality floor = batteryMode ? Quality.REDUCED : Quality.FULL;
+        quality.set(measured.ordinal() >= floor.ordinal() ? measured : floor);
+    }
+}
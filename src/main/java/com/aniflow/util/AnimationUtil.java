@@ -3,7 +3,6 @@ package com.aniflow.util;
 import com.aniflow.app.AppState;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
-import javafx.animation.ScaleTransition;
 import javafx.animation.TranslateTransition;
 import javafx.scene.Node;
 import javafx.scene.layout.StackPane;
@@ -14,14 +13,17 @@ public final class AnimationUtil {
     }
 
     public static void applyCardHover(Node node, AppState state) {
-        node.setOnMouseEntered(event -> animateScale(node, state, 1.02));
-        node.setOnMouseExited(event -> animateScale(node, state, 1.0));
+        node.setOnMouseEntered(event -> AnimationBudget.global().scaleTo(node, 1.02, transitionDuration(state)));
+        node.setOnMouseExited(event -> AnimationBudget.global().scaleTo(node, 1.0, transitionDuration(state)));
     }
 
     public static void switchPage(StackPane host, Node nextPage, AppState state) {
         Duration duration = transitionDuration(state);
+        AnimationBudget budget = AnimationBudget.global();
 
-        if (host.getChildren().isEmpty()) {
+        if (host.getChildren().isEmpty() || !budget.admit()) {
+            nextPage.setOpacity(1);
+            nextPage.setTranslateX(0);
             host.getChildren().setAll(nextPage);
             return;
         }
@@ -46,19 +48,15 @@ public final class AnimationUtil {
             TranslateTransition inSlide = new TranslateTransition(duration, nextPage);
             inSlide.setFromX(20);
             inSlide.setToX(0);
-            new ParallelTransition(in, inSlide).play();
+            ParallelTransition show = new ParallelTransition(in, inSlide);
+            budget.track(show);
+            show.play();
         });
+        budget.track(hide);
         hide.play();
     }
 
     public static Duration transitionDuration(AppState state) {
         return state != null && state.isBatteryEfficientMode() ? Duration.millis(160) : Duration.millis(300);
     }
-
-    private static void animateScale(Node node, AppState state, double target) {
-        ScaleTransition transition = new ScaleTransition(transitionDuration(state), node);
-        transition.setToX(target);
-        transition.setToY(target);
-        transition.play();
-    }
 }
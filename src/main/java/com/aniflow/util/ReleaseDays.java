@@ -0,0 +1,44 @@
+package com.aniflow.util;
+
+import java.time.DayOfWeek;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ReleaseDays {
+    private static final Map<String, DayOfWeek> DAY_NAMES = Map.ofEntries(
+        Map.entry("senin", DayOfWeek.MONDAY),
+        Map.entry("selasa", DayOfWeek.TUESDAY),
+        Map.entry("rabu", DayOfWeek.WEDNESDAY),
+        Map.entry("kamis", DayOfWeek.THURSDAY),
+        Map.entry("jumat", DayOfWeek.FRIDAY),
+        Map.entry("sabtu", DayOfWeek.SATURDAY),
+        Map.entry("minggu", DayOfWeek.SUNDAY),
+        Map.entry("ahad", DayOfWeek.SUNDAY),
+        Map.entry("monday", DayOfWeek.MONDAY),
+        Map.entry("tuesday", DayOfWeek.TUESDAY),
+        Map.entry("wednesday", DayOfWeek.WEDNESDAY),
+        Map.entry("thursday", DayOfWeek.THURSDAY),
+        Map.entry("friday", DayOfWeek.FRIDAY),
+        Map.entry("saturday", DayOfWeek.SATURDAY),
+        Map.entry("sunday", DayOfWeek.SUNDAY)
+    );
+
+    private ReleaseDays() {
+    }
+
+    public static Optional<DayOfWeek> parse(String releaseInfo) {
+        if (releaseInfo == null || releaseInfo.isBlank()) {
+            return Optional.empty();
+        }
+
+        String normalized = releaseInfo.toLowerCase(Locale.ROOT).replace("'", "");
+        for (String token : normalized.split("[^a-z]+")) {
+            DayOfWeek day = DAY_NAMES.get(token);
+            if (day != null) {
+                return Optional.of(day);
+            }
+        }
+        return Optional.empty();
+    }
+}
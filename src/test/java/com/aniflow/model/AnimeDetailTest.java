@@ -0,0 +1,41 @@
+package com.aniflow.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnimeDetailTest {
+    @Test
+    void nullEntriesFromUpstreamAreDropped() {
+        List<EpisodeInfo> episodes = Arrays.asList(
+            new EpisodeInfo(1, "Episode 1", "ep-1", "", ""),
+            null,
+            new EpisodeInfo(3, "Episode 3", "ep-3", "", "")
+        );
+        List<Anime> related = Arrays.asList(null, anime(2, "Sequel", "Ongoing", 7.0));
+
+        AnimeDetail detail = new AnimeDetail(anime(1, "Origin", "Ongoing", 8.0), episodes, related);
+
+        assertEquals(2, detail.getEpisodeList().size());
+        assertEquals(3, detail.latestEpisodeNumber());
+        assertEquals(List.of("Sequel"), titles(detail.getRelatedAnime()));
+    }
+
+    @Test
+    void listsAreDetachedAndReadOnly() {
+        List<EpisodeInfo> episodes = new ArrayList<>(List.of(new EpisodeInfo(1, "Episode 1", "ep-1", "", "")));
+        AnimeDetail detail = new AnimeDetail(anime(1, "Origin", "Ongoing", 8.0), episodes, null);
+        episodes.add(new EpisodeInfo(2, "Episode 2", "ep-2", "", ""));
+
+        assertEquals(1, detail.getEpisodeList().size());
+        assertEquals(List.of(), detail.getRelatedAnime());
+        assertThrows(UnsupportedOperationException.class, () -> detail.getEpisodeList().clear());
+    }
+}
@@ -0,0 +1,16 @@
+package com.aniflow.model;
+
+import java.util.List;
+
+public final class AnimeFixtures {
+    private AnimeFixtures() {
+    }
+
+    public static Anime anime(int id, String title, String status, double score, String... genres) {
+        return new Anime(id, title, "", "", "", 12, status, score, List.of(genres), "", null);
+    }
+
+    public static List<String> titles(List<Anime> items) {
+        return items.stream().map(Anime::getTitle).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.aniflow.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EpisodeStreamTest {
+    @Test
+    void nullUrlsFromUpstreamAreDropped() {
+        Map<String, List<String>> downloads = new LinkedHashMap<>();
+        downloads.put("480p", Arrays.asList(null, "https://cdn.example/480.mp4"));
+        downloads.put("720p", null);
+
+        EpisodeStream stream = new EpisodeStream("Ep 1", "ep-1", Arrays.asList(null, null), downloads, null, null, "show");
+
+        assertEquals(List.of(), stream.getStreamingUrls());
+        assertEquals(List.of("https://cdn.example/480.mp4"), stream.getDownloadUrls().get("480p"));
+        assertEquals(List.of(), stream.getDownloadUrls().get("720p"));
+        assertEquals("https://cdn.example/480.mp4", stream.firstPlayableUrl());
+    }
+
+    @Test
+    void downloadUrlsAreDetachedAndReadOnly() {
+        Map<String, List<String>> downloads = new LinkedHashMap<>();
+        downloads.put("360p", List.of("https://cdn.example/360.mp4"));
+        EpisodeStream stream = new EpisodeStream("Ep 1", "ep-1", List.of("https://cdn.example/hls.m3u8"), downloads, null, null, "show");
+        downloads.clear();
+
+        assertEquals(1, stream.getDownloadUrls().size());
+        assertEquals("https://cdn.example/hls.m3u8", stream.firstPlayableUrl());
+        assertThrows(UnsupportedOperationException.class, () -> stream.getDownloadUrls().put("1080p", List.of()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.GenreDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimeRepositoryFilterTest {
+    @Test
+    void genreFilterKeepsSubstringSemanticsOnKnownGenres() {
+        List<Anime> base = List.of(
+            anime(1, "Planetes", "Completed", 8.0, "Sci-Fi", "Space"),
+            anime(2, "K-On", "Completed", 8.0, "Music", "Slice of Life"),
+            anime(3, "Haikyuu", "Completed", 8.0, "Sports", "School")
+        );
+
+        assertEquals(List.of("Planetes"), titles(AnimeRepository.filterByGenre(base, "sci")));
+        assertEquals(List.of("K-On", "Haikyuu"), titles(AnimeRepository.filterByGenre(base, " O ")));
+        assertEquals(List.of("K-On"), titles(AnimeRepository.filterByGenre(base, "Slice of Life")));
+        assertTrue(AnimeRepository.filterByGenre(base, "mecha").isEmpty());
+    }
+
+    @Test
+    void genresOutsideFixedTableFallBackToNames() {
+        int tableSize = GenreDictionary.size();
+        List<Anime> base = new ArrayList<>();
+        IntStream.range(0, GenreDictionary.MASK_BITS + 6)
+            .forEach(i -> base.add(anime(i, "Custom " + i, "Ongoing", 7.0, "Custom Genre " + i)));
+        base.add(anime(100, "Mixed", "Ongoing", 7.0, "Action", "Custom Genre 69"));
+        base.add(anime(101, "Plain", "Ongoing", 7.0, "Action"));
+
+        assertEquals(tableSize, GenreDictionary.size());
+        assertTrue(base.get(0).hasUnindexedGenres());
+        assertFalse(base.get(base.size() - 1).hasUnindexedGenres());
+        assertEquals(List.of("Custom 69", "Mixed"), titles(AnimeRepository.filterByGenre(base, "custom genre 69")));
+        assertEquals(List.of("Mixed", "Plain"), titles(AnimeRepository.filterByGenre(base, "Action")));
+        assertEquals(GenreDictionary.MASK_BITS + 7, AnimeRepository.filterByGenre(base, "genre").size());
+    }
+
+    @Test
+    void statusFilterMatchesWholeStatusOrAlias() {
+        List<Anime> base = List.of(
+            anime(1, "Airing", "Currently Releasing", 7.0),
+            anime(2, "Plain Ongoing", " Ongoing ", 7.0),
+            anime(3, "Done", "Completed", 7.0),
+            anime(4, "Teaser", "Not yet released", 7.0),
+            anime(5, "Odd", "Ongoing soon", 7.0)
+        );
+
+        assertEquals(List.of("Airing", "Plain Ongoing"), titles(AnimeRepository.filterByStatus(base, "ONGOING")));
+        assertEquals(List.of("Done"), titles(AnimeRepository.filterByStatus(base, "Finished")));
+        assertEquals(List.of("Teaser"), titles(AnimeRepository.filterByStatus(base, "Upcoming")));
+        assertEquals(List.of("Odd"), titles(AnimeRepository.filterByStatus(base, "ongoing soon")));
+        assertEquals(base, AnimeRepository.filterByStatus(base, "Any"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimeRepositorySearchTest {
+    private static final List<Anime> CATALOG = List.of(
+        anime(1, "Naruto", "Completed", 8.0, "Action", "Adventure"),
+        anime(2, "Naruto Shippuden", "Currently Releasing", 8.5, "Action"),
+        anime(3, "Naruto Romance", "Completed", 6.0, "Romance")
+    );
+
+    private final RecordingApi api = new RecordingApi();
+    private final AnimeRepository repository = new AnimeRepository(api, null);
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void searchLocalAnswersFromIndexedCatalogWithoutNetwork() {
+        repository.indexCatalog(CATALOG);
+
+        assertEquals(List.of("Naruto Shippuden"), titles(repository.searchLocal("naruto shipp", SearchFilter.empty(), 10)));
+        assertEquals(List.of("Naruto Romance"), titles(repository.searchLocal("naru", new SearchFilter("Romance", "Any", "Any"), 10)));
+        assertTrue(api.calls.isEmpty());
+    }
+
+    @Test
+    void streamSearchSendsLocalHitsBeforeNetworkThenServesRepeatsFromCache() throws Exception {
+        repository.indexCatalog(List.of(CATALOG.get(0)));
+
+        List<SearchStream.Batch> first = collect("naruto", Duration.ZERO);
+        assertEquals(List.of(SearchStream.Source.LOCAL, SearchStream.Source.NETWORK), first.stream().map(SearchStream.Batch::source).toList());
+        assertEquals(List.of("Naruto"), titles(first.get(0).items()));
+        assertEquals(List.of("Naruto Shippuden", "Naruto Romance"), titles(first.get(1).items()));
+        assertEquals(3, first.get(1).totalSoFar());
+
+        List<SearchStream.Batch> repeat = collect("naruto", Duration.ZERO);
+        assertEquals(SearchStream.Source.CACHE, repeat.get(repeat.size() - 1).source());
+        assertEquals(List.of("search:naruto"), api.calls);
+    }
+
+    @Test
+    void streamCancelledBeforeDelayNeverReachesNetwork() throws Exception {
+        SearchStream stream = repository.streamSearch("naruto", SearchFilter.empty(), Duration.ofMillis(50), batch -> {
+        });
+        stream.cancel();
+        Thread.sleep(300);
+
+        assertTrue(api.calls.isEmpty());
+    }
+
+    @Test
+    void supersededSearchIsCancelledDownToApiFuture() {
+        api.holdResponses = true;
+        List<SearchStream.Batch> batches = new CopyOnWriteArrayList<>();
+        SearchStream first = repository.streamSearch("naruto", SearchFilter.empty(), Duration.ZERO, batches::add);
+        SearchStream second = repository.streamSearch("naruto shippuden", SearchFilter.empty(), Duration.ZERO, batches::add);
+        first.cancel();
+
+        assertEquals(2, api.held.size());
+        assertTrue(api.held.get(0).isCancelled());
+        assertFalse(api.held.get(1).isCancelled());
+
+        api.held.get(1).complete(List.of(CATALOG.get(1)));
+        assertTrue(batches.stream().allMatch(batch -> batch.token() == second.token()));
+        assertEquals(List.of("Naruto Shippuden"), titles(batches.get(batches.size() - 1).items()));
+    }
+
+    @Test
+    void filteredQueriesAreServedFromCachedBaseResult() {
+        assertEquals(List.of("Naruto", "Naruto Shippuden", "Naruto Romance"), search("naruto", SearchFilter.empty()));
+        assertEquals(List.of("Naruto", "Naruto Shippuden"), search("Naruto ", new SearchFilter("Action", "Any", "Any")));
+        assertEquals(List.of("Naruto Shippuden"), search("NARUTO", new SearchFilter("Action", "Any", "Ongoing")));
+
+        assertEquals(List.of("search:naruto"), api.calls);
+    }
+
+    @Test
+    void refinedQueryPopulatesBaseForLaterQueries() {
+        assertEquals(List.of("Naruto Romance"), search("naruto", new SearchFilter("Romance", "Any", "Any")));
+        assertEquals(3, search("naruto", SearchFilter.empty()).size());
+
+        assertEquals(List.of("search:naruto"), api.calls);
+    }
+
+    @Test
+    void differentTextOrBrowseModeGoesToNetwork() {
+        search("naruto", SearchFilter.empty());
+        search("naruto shippuden", SearchFilter.empty());
+        search("", new SearchFilter("Action", "Any", "Any"));
+        search("", new SearchFilter("Action", "Any", "Ongoing"));
+        search("", SearchFilter.empty());
+
+        assertEquals(List.of("search:naruto", "search:naruto shippuden", "genre:action", "ongoing"), api.calls);
+    }
+
+    @Test
+    void eachStreamGetsNewerTokenThanPrevious() {
+        SearchStream first = repository.streamSearch("", SearchFilter.empty(), Duration.ofMinutes(1), batch -> {
+        });
+        SearchStream second = repository.streamSearch("", SearchFilter.empty(), Duration.ofMinutes(1), batch -> {
+        });
+        first.cancel();
+        second.cancel();
+
+        assertTrue(second.token() > first.token());
+    }
+
+    private List<String> search(String keyword, SearchFilter filter) {
+        return titles(repository.search(keyword, filter).join());
+    }
+
+    private List<SearchStream.Batch> collect(String keyword, Duration delay) throws Exception {
+        List<SearchStream.Batch> batches = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        repository.streamSearch(keyword, SearchFilter.empty(), delay, batch -> {
+            batches.add(batch);
+            if (batch.complete()) {
+                done.complete(null);
+            }
+        });
+        done.get(5, TimeUnit.SECONDS);
+        return batches;
+    }
+
+    private static final class RecordingApi extends OtakudesuApiService {
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final List<CompletableFuture<List<Anime>>> held = new CopyOnWriteArrayList<>();
+        private volatile boolean holdResponses;
+
+        private RecordingApi() {
+            super("http://127.0.0.1:9");
+        }
+
+        @Override
+        public CompletableFuture<List<Anime>> searchAnimeAsync(String query) {
+            calls.add("search:" + query);
+            if (holdResponses) {
+                CompletableFuture<List<Anime>> response = new CompletableFuture<>();
+                held.add(response);
+                return response;
+            }
+            return CompletableFuture.completedFuture(CATALOG.stream().filter(anime -> anime.getTitle().toLowerCase().contains(query)).toList());
+        }
+
+        @Override
+        public CompletableFuture<List<Anime>> fetchByGenreAsync(String genreSlug) {
+            calls.add("genre:" + genreSlug);
+            return CompletableFuture.completedFuture(CATALOG);
+        }
+
+        @Override
+        public CompletableFuture<List<Anime>> fetchOngoingAsync() {
+            calls.add("ongoing");
+            return CompletableFuture.completedFuture(CATALOG);
+        }
+    }
+}
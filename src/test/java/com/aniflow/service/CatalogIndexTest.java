@@ -0,0 +1,146 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogIndexTest {
+    private static final int TRIGRAM_SPACE = 37 * 37 * 37;
+
+    private static CatalogIndex indexOf(Anime... items) {
+        CatalogIndex index = new CatalogIndex();
+        index.addAll(List.of(items));
+        return index;
+    }
+
+    @Test
+    void boundedEditDistanceCountsAdjacentTranspositionAsOneEdit() {
+        assertEquals(1, CatalogIndex.boundedEditDistance("freiren", "frieren", 2));
+        assertEquals(1, CatalogIndex.boundedEditDistance("jujustu", "jujutsu", 2));
+        assertEquals(0, CatalogIndex.boundedEditDistance("kaisen", "kaisen", 1));
+        assertEquals(1, CatalogIndex.boundedEditDistance("naruto", "nartuo", 2));
+        assertEquals(2, CatalogIndex.boundedEditDistance("naruto", "nrautp", 2));
+    }
+
+    @Test
+    void boundedEditDistanceStopsAtBound() {
+        assertEquals(2, CatalogIndex.boundedEditDistance("abcdefgh", "zyxwvuts", 1));
+        assertEquals(3, CatalogIndex.boundedEditDistance("abcdefgh", "zyxwvuts", 2));
+        assertEquals(2, CatalogIndex.boundedEditDistance("one", "onepiece", 1));
+    }
+
+    @Test
+    void trigramsStayInsideSlotSpaceForNonAsciiTerms() {
+        for (String term : List.of("ñandú", "進撃の巨人", "café", "a", "z9")) {
+            int[] grams = CatalogIndex.trigrams(term);
+            assertEquals(term.length(), grams.length, term);
+            for (int gram : grams) {
+                assertTrue(gram >= 0 && gram < TRIGRAM_SPACE, term + " -> " + gram);
+            }
+        }
+        assertEquals(1, CatalogIndex.trigrams("x").length);
+        assertEquals(24 * 37, CatalogIndex.trigrams("x")[0]);
+    }
+
+    @Test
+    void tokenizeFoldsDiacriticsAndDropsDuplicates() {
+        assertEquals(List.of("pokemon", "xy"), CatalogIndex.tokenize("Pokémon XY pokemon"));
+        assertTrue(CatalogIndex.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    void searchMatchesPrefixesAndSingleEditTypos() {
+        CatalogIndex index = indexOf(
+            anime(1, "Sousou no Frieren", "Ongoing", 9.1, "Adventure", "Fantasy"),
+            anime(2, "Jujutsu Kaisen", "Completed", 8.6, "Action", "Supernatural"),
+            anime(3, "One Piece", "Ongoing", 8.7, "Action", "Adventure")
+        );
+
+        assertEquals(List.of("Sousou no Frieren"), titles(index.search("frieran", SearchFilter.empty(), 10)));
+        assertEquals(List.of("Jujutsu Kaisen"), titles(index.search("jujutsu kai", SearchFilter.empty(), 10)));
+        assertTrue(index.search("xyz", SearchFilter.empty(), 10).isEmpty());
+    }
+
+    @Test
+    void searchToleratesTranspositionTypos() {
+        CatalogIndex index = indexOf(
+            anime(1, "Sousou no Frieren", "Ongoing", 9.1, "Adventure", "Fantasy"),
+            anime(2, "Jujutsu Kaisen", "Completed", 8.6, "Action", "Supernatural")
+        );
+
+        assertEquals(List.of("Sousou no Frieren"), titles(index.search("freiren", SearchFilter.empty(), 10)));
+        assertEquals(List.of("Jujutsu Kaisen"), titles(index.search("jujustu kaisen", SearchFilter.empty(), 10)));
+    }
+
+    @Test
+    void searchRequiresEveryQueryTerm() {
+        CatalogIndex index = indexOf(
+            anime(1, "Jujutsu Kaisen", "Completed", 8.6, "Action"),
+            anime(2, "Kaisen Academy", "Completed", 7.0, "Comedy")
+        );
+
+        assertEquals(List.of("Jujutsu Kaisen"), titles(index.search("jujutsu kaisen", SearchFilter.empty(), 10)));
+    }
+
+    @Test
+    void titleMatchesRankAboveGenreMatches() {
+        CatalogIndex index = indexOf(
+            anime(1, "Quiet Garden", "Completed", 8.0, "Action"),
+            anime(2, "Action Heroes", "Completed", 8.0, "Comedy")
+        );
+
+        assertEquals(List.of("Action Heroes", "Quiet Garden"), titles(index.search("action", SearchFilter.empty(), 10)));
+    }
+
+    @Test
+    void scoreAndOngoingStatusBreakTies() {
+        CatalogIndex index = indexOf(
+            anime(1, "Blade Low", "Completed", 5.0, "Action"),
+            anime(2, "Blade High", "Completed", 9.0, "Action"),
+            anime(3, "Blade Airing", "Ongoing", 5.0, "Action")
+        );
+
+        List<String> ranked = titles(index.search("blade", SearchFilter.empty(), 10));
+        assertEquals("Blade High", ranked.get(0));
+        assertTrue(ranked.indexOf("Blade Airing") < ranked.indexOf("Blade Low"));
+    }
+
+    @Test
+    void releasingStatusCountsAsOngoing() {
+        CatalogIndex index = indexOf(
+            anime(1, "Moon Finished", "Currently Finished", 7.0, "Drama"),
+            anime(2, "Moon Releasing", "Currently Releasing", 7.0, "Drama")
+        );
+
+        assertEquals(List.of("Moon Releasing", "Moon Finished"), titles(index.search("moon", SearchFilter.empty(), 10)));
+    }
+
+    @Test
+    void searchAppliesFilterAndLimit() {
+        CatalogIndex index = indexOf(
+            anime(1, "Star Alpha", "Ongoing", 8.0, "Mecha"),
+            anime(2, "Star Beta", "Completed", 7.0, "Mecha"),
+            anime(3, "Star Gamma", "Ongoing", 6.0, "Romance")
+        );
+
+        assertEquals(List.of("Star Alpha"), titles(index.search("star", new SearchFilter("Mecha", "Any", "Ongoing"), 10)));
+        assertEquals(2, index.search("star", SearchFilter.empty(), 2).size());
+    }
+
+    @Test
+    void reindexingSlugReplacesDocument() {
+        CatalogIndex index = indexOf(anime(1, "Old Title", "Ongoing", 7.0, "Drama"));
+        index.add(anime(1, "New Title", "Ongoing", 7.0, "Drama"));
+
+        assertEquals(1, index.size());
+        assertTrue(index.search("old", SearchFilter.empty(), 10).isEmpty());
+        assertEquals(List.of("New Title"), titles(index.search("new", SearchFilter.empty(), 10)));
+    }
+}
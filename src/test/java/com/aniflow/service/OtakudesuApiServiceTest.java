@@ -0,0 +1,62 @@
+package com.aniflow.service;
+
+import com.aniflow.metrics.Counter;
+import com.aniflow.metrics.MetricsRegistry;
+import com.aniflow.model.Anime;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OtakudesuApiServiceTest {
+    private final CountDownLatch requestArrived = new CountDownLatch(1);
+    private final CountDownLatch releaseResponse = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeEach
+    void startStalledUpstream() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requestArrived.countDown();
+            try {
+                releaseResponse.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopUpstream() {
+        releaseResponse.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void cancellingSearchAbortsInFlightExchange() throws Exception {
+        Counter cancelled = MetricsRegistry.global().counter("http.cancelled");
+        long before = cancelled.get();
+        OtakudesuApiService api = new OtakudesuApiService("http://127.0.0.1:" + server.getAddress().getPort());
+
+        CompletableFuture<List<Anime>> search = api.searchAnimeAsync("naruto");
+        assertTrue(requestArrived.await(5, TimeUnit.SECONDS));
+        search.cancel(true);
+
+        assertTrue(search.isCancelled());
+        assertEquals(before + 1, cancelled.get());
+    }
+}
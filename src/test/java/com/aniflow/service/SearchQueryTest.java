@@ -0,0 +1,80 @@
+package com.aniflow.service;
+
+import com.aniflow.model.Anime;
+import com.aniflow.model.SearchFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchQueryTest {
+    @Test
+    void canonicalisesKeywordAndFilter() {
+        SearchQuery query = SearchQuery.of("  Jujutsu   KAISEN ", new SearchFilter(" Action ", null, "Ongoing"));
+
+        assertEquals("jujutsu kaisen", query.text());
+        assertEquals("action", query.genre());
+        assertEquals("any", query.season());
+        assertEquals("ongoing", query.status());
+        assertEquals("search:q=jujutsu kaisen|action|any|ongoing", query.key());
+    }
+
+    @Test
+    void equivalentInputsShareKey() {
+        SearchQuery spaced = SearchQuery.of("one  piece", new SearchFilter("All", "Any", "Any"));
+        SearchQuery cased = SearchQuery.of("One Piece", null);
+
+        assertEquals(spaced, cased);
+        assertEquals(spaced.key(), cased.key());
+    }
+
+    @Test
+    void filtersRefineSameBaseKey() {
+        SearchQuery plain = SearchQuery.of("naruto", SearchFilter.empty());
+        SearchQuery filtered = SearchQuery.of("Naruto", new SearchFilter("Action", "Any", "Finished"));
+
+        assertEquals(plain.baseKey(), filtered.baseKey());
+        assertNotEquals(plain.key(), filtered.key());
+        assertNotEquals(plain.baseKey(), SearchQuery.of("naruto shippuden", SearchFilter.empty()).baseKey());
+    }
+
+    @Test
+    void baseKeyFallsBackToGenreThenOngoing() {
+        SearchQuery genreOnly = SearchQuery.of(" ", new SearchFilter("Slice of Life", "Any", "Any"));
+        SearchQuery browse = SearchQuery.of(null, null);
+
+        assertFalse(genreOnly.hasText());
+        assertTrue(genreOnly.hasGenre());
+        assertEquals("search:genre=slice of life", genreOnly.baseKey());
+        assertFalse(browse.hasGenre());
+        assertEquals("search:ongoing", browse.baseKey());
+    }
+
+    @Test
+    void refineAppliesGenreAndStatusOnTextResults() {
+        List<Anime> base = List.of(
+            anime(1, "Naruto", "Completed", 7.0, "Action", "Adventure"),
+            anime(2, "Naruto Shippuden", "Currently Releasing", 7.0, "Action"),
+            anime(3, "Naruto Romance", "Completed", 7.0, "Romance")
+        );
+
+        List<Anime> finishedAction = SearchQuery.of("naruto", new SearchFilter("Action", "Any", "Finished")).refine(base);
+        List<Anime> ongoing = SearchQuery.of("naruto", new SearchFilter("All", "Any", "Ongoing")).refine(base);
+
+        assertEquals(List.of("Naruto"), titles(finishedAction));
+        assertEquals(List.of("Naruto Shippuden"), titles(ongoing));
+    }
+
+    @Test
+    void refineLeavesGenreBrowseUnfilteredByGenre() {
+        List<Anime> base = List.of(anime(1, "Untagged", "Ongoing", 7.0));
+
+        assertEquals(base, SearchQuery.of("", new SearchFilter("Mecha", "Any", "Any")).refine(base));
+    }
+}
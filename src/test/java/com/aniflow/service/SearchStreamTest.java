@@ -0,0 +1,78 @@
+package com.aniflow.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.aniflow.model.AnimeFixtures.anime;
+import static com.aniflow.model.AnimeFixtures.titles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchStreamTest {
+    private final List<SearchStream.Batch> batches = new ArrayList<>();
+    private final SearchStream stream = new SearchStream(7, batches::add);
+
+    @Test
+    void laterBatchesOnlyCarryUnseenSlugs() {
+        stream.emit(List.of(anime(1, "Alpha", "Ongoing", 7.0), anime(2, "Beta", "Ongoing", 7.0)), SearchStream.Source.LOCAL, false);
+        stream.emit(List.of(anime(2, "Beta", "Ongoing", 7.0), anime(3, "Gamma", "Ongoing", 7.0)), SearchStream.Source.NETWORK, true);
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of("Alpha", "Beta"), titles(batches.get(0).items()));
+        assertEquals(List.of("Gamma"), titles(batches.get(1).items()));
+        assertEquals(3, batches.get(1).totalSoFar());
+        assertTrue(batches.get(1).complete());
+    }
+
+    @Test
+    void emptyIntermediateBatchIsSkippedButCompletionIsDelivered() {
+        stream.emit(List.of(), SearchStream.Source.LOCAL, false);
+        stream.emit(null, SearchStream.Source.NETWORK, true);
+
+        assertEquals(1, batches.size());
+        assertTrue(batches.get(0).items().isEmpty());
+        assertTrue(batches.get(0).complete());
+    }
+
+    @Test
+    void nothingIsDeliveredAfterCompletionOrCancel() {
+        stream.emit(List.of(anime(1, "Alpha", "Ongoing", 7.0)), SearchStream.Source.CACHE, true);
+        stream.emit(List.of(anime(2, "Beta", "Ongoing", 7.0)), SearchStream.Source.NETWORK, true);
+
+        SearchStream cancelled = new SearchStream(8, batches::add);
+        cancelled.cancel();
+        cancelled.emit(List.of(anime(3, "Gamma", "Ongoing", 7.0)), SearchStream.Source.LOCAL, false);
+
+        assertEquals(1, batches.size());
+        assertTrue(cancelled.isCancelled());
+    }
+
+    @Test
+    void batchesCarryStreamToken() {
+        stream.emit(List.of(anime(1, "Alpha", "Ongoing", 7.0)), SearchStream.Source.LOCAL, true);
+
+        assertEquals(7, stream.token());
+        assertEquals(7, batches.get(0).token());
+    }
+
+    @Test
+    void cancelAbortsAttachedRequest() {
+        CompletableFuture<Object> request = new CompletableFuture<>();
+        stream.attach(request);
+        stream.cancel();
+
+        assertTrue(request.isCancelled());
+    }
+
+    @Test
+    void requestAttachedAfterCancelIsAbortedImmediately() {
+        stream.cancel();
+        CompletableFuture<Object> request = new CompletableFuture<>();
+        stream.attach(request);
+
+        assertTrue(request.isCancelled());
+    }
+}
@@ -0,0 +1,92 @@
+package com.aniflow.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamProbeServiceTest {
+    private static final byte[] MP4_HEAD = {0, 0, 0, 0x20, 'f', 't', 'y', 'p', 'i', 's', 'o', 'm', 0, 0, 2, 0};
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startUpstream() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serve("/untyped.mp4", null, MP4_HEAD);
+        serve("/untyped.m3u8", null, "#EXTM3U\n#EXT-X-VERSION:3\n".getBytes(StandardCharsets.US_ASCII));
+        serve("/untyped-page", null, "<!doctype html><p>blocked</p>".getBytes(StandardCharsets.US_ASCII));
+        serve("/typed.mp4", "video/mp4", MP4_HEAD);
+        serve("/typed-page", "text/html; charset=utf-8", "<html></html>".getBytes(StandardCharsets.US_ASCII));
+        server.start();
+    }
+
+    @AfterEach
+    void stopUpstream() {
+        server.stop(0);
+    }
+
+    @Test
+    void missingContentTypeIsPlayableOnlyWhenBodyLooksLikeMedia() throws Exception {
+        Map<String, StreamProbeService.ProbeResult> results = probeAll(
+            "/untyped.mp4", "/untyped.m3u8", "/untyped-page", "/typed.mp4", "/typed-page"
+        );
+
+        assertTrue(results.get("/untyped.mp4").playable());
+        assertTrue(results.get("/untyped.m3u8").playable());
+        assertTrue(results.get("/typed.mp4").playable());
+
+        assertTrue(results.get("/untyped-page").reachable());
+        assertFalse(results.get("/untyped-page").playable());
+        assertTrue(results.get("/typed-page").reachable());
+        assertFalse(results.get("/typed-page").playable());
+    }
+
+    @Test
+    void sniffedPageRanksBelowPlayableSources() throws Exception {
+        List<StreamProbeService.ProbeResult> ranked = new StreamProbeService()
+            .probe(List.of(url("/untyped-page"), url("/untyped.mp4")))
+            .ranked()
+            .get(10, TimeUnit.SECONDS);
+
+        assertEquals(url("/untyped.mp4"), ranked.get(0).url());
+    }
+
+    private Map<String, StreamProbeService.ProbeResult> probeAll(String... paths) throws Exception {
+        List<String> urls = List.of(paths).stream().map(this::url).toList();
+        return new StreamProbeService().probe(urls).ranked().get(10, TimeUnit.SECONDS).stream()
+            .collect(Collectors.toMap(result -> result.url().substring(url("").length()), Function.identity()));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private void serve(String path, String contentType, byte[] body) {
+        server.createContext(path, exchange -> {
+            if (contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+            }
+            exchange.sendResponseHeaders(206, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            exchange.close();
+        });
+    }
+}
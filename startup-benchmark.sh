@@ -0,0 +1,58 @@
+#!/bin/bash
+# Ukur waktu launch -> window AniFlow: classpath biasa vs runtime jlink + AppCDS.
+# Pakai: ./startup-benchmark.sh [jumlah-run]   (jalankan mvn -Pstartup-image -DskipTests package dulu)
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PROJECT_DIR="$(cd "$(dirname "$0")" && pwd)"
+IMAGE_DIR="$PROJECT_DIR/target/aniflow-image"
+RESULTS="$PROJECT_DIR/target/startup-benchmark.csv"
+
+if [ ! -x "$IMAGE_DIR/bin/aniflow" ]; then
+  echo "Image belum ada. Jalankan: mvn -Pstartup-image -DskipTests package"
+  exit 1
+fi
+
+WRAP=()
+if [ -z "${DISPLAY:-}" ] && command -v xvfb-run >/dev/null 2>&1; then
+  export LIBGL_ALWAYS_SOFTWARE=1
+  export JAVA_TOOL_OPTIONS="-Dprism.order=sw"
+  WRAP=(xvfb-run -a -s '-screen 0 1366x900x24')
+fi
+
+measure() {
+  local label="$1"
+  shift
+  local total=0
+  local ok=0
+  for i in $(seq 1 "$RUNS"); do
+    local output
+    output="$("${WRAP[@]}" "$@" 2>&1 || true)"
+    local window
+    window="$(echo "$output" | sed -n 's/.*launch-to-window \([0-9]*\) ms.*/\1/p' | head -n1)"
+    local cold
+    cold="$(echo "$output" | sed -n 's/.*cold start \([0-9]*\) ms.*/\1/p' | head -n1)"
+    if [ -z "$window" ]; then
+      echo "  [$label] run $i gagal (tidak ada laporan startup)"
+      continue
+    fi
+    echo "  [$label] run $i: launch-to-window ${window} ms, cold start ${cold} ms"
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$label,$i,$window,$cold" >> "$RESULTS"
+    total=$((total + window))
+    ok=$((ok + 1))
+  done
+  if [ "$ok" -gt 0 ]; then
+    echo "  [$label] rata-rata launch-to-window: $((total / ok)) ms ($ok run)"
+  fi
+}
+
+[ -f "$RESULTS" ] || echo "timestamp,variant,run,launch_to_window_ms,cold_start_ms" > "$RESULTS"
+
+echo "Baseline (runtime jlink tanpa CDS)"
+measure baseline env ANIFLOW_CDS=off ANIFLOW_JAVA_OPTS="-Xshare:off -Daniflow.startup.exitAfterReport=true" "$IMAGE_DIR/bin/aniflow"
+
+echo "AppCDS"
+measure appcds env ANIFLOW_JAVA_OPTS="-Daniflow.startup.exitAfterReport=true" "$IMAGE_DIR/bin/aniflow"
+
+echo "Hasil tersimpan di $RESULTS"